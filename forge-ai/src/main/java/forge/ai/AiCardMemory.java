@@ -62,6 +62,7 @@ public class AiCardMemory {
         CHOSEN_FOG_EFFECT, // These cards are marked as the Fog-like effect the AI is planning to cast this turn
         PAYS_TAP_COST, // These cards will be tapped as part of a cost and cannot be chosen in another part
         PAYS_SAC_COST, // These cards will be sacrificed as part of a cost and cannot be chosen in another part
+        MULTIPLE_CARDS_TO_CHOOSE, // These cards were picked together (e.g. for Intuition) and will be chosen one by one when the effect resolves
         REVEALED_CARDS // These cards were recently revealed to the AI by a call to PlayerControllerAi.reveal
     }
 
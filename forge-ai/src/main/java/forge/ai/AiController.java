@@ -68,7 +68,8 @@ import io.sentry.Breadcrumb;
 import io.sentry.Sentry;
 
 import java.util.*;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -76,6 +77,7 @@ import java.util.stream.Collectors;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static forge.ai.ComputerUtilMana.getAvailableManaEstimate;
 import static java.lang.Math.max;
@@ -89,6 +91,9 @@ import static java.lang.Math.max;
  * @version $Id$
  */
 public class AiController {
+    // how long a timed out evaluation may take to notice its cancellation
+    private static final int CANCEL_GRACE_SECONDS = 2;
+
     private final Player player;
     private final Game game;
     private final AiCardMemory memory;
@@ -100,7 +105,6 @@ public class AiController {
     private int lastAttackAggression;
     private boolean useLivingEnd;
     private List<SpellAbility> skipped;
-    private boolean timeoutReached;
 
     public AiController(final Player computerPlayer, final Game game0) {
         player = computerPlayer;
@@ -871,6 +875,11 @@ public class AiController {
         // this is the "heaviest" check, which also sets up targets, defines X, etc.
         AiPlayDecision canPlay = canPlaySa(sa);
 
+        // cancelled after the AI timeout while checking
+        if (Thread.currentThread().isInterrupted()) {
+            return AiPlayDecision.AnotherTime;
+        }
+
         if (canPlay != AiPlayDecision.WillPlay) {
             return canPlay;
         }
@@ -1597,109 +1606,132 @@ public class AiController {
             Sentry.captureMessage(ex.getMessage() + "\nAssertionError [verifyTransitivity]: " + assertex);
         }
 
-        // in case of infinite loop reset below would not be reached
-        timeoutReached = false;
+        final Random gameRandom = MyRandom.getRandom();
+        final CountDownLatch finished = new CountDownLatch(1);
+        // claimed by the evaluation when it starts, or by the game thread giving up on it before
+        final AtomicBoolean started = new AtomicBoolean();
+        Future<SpellAbility> future = ThreadUtil.submitAiTask(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            // keep random decisions on the game's seeded generator while evaluating off the game thread
+            final Random previousRandom = MyRandom.bindToThread(gameRandom);
+            try {
+                return evaluateSpellAbilities(all, skipCounter);
+            } finally {
+                // the pooled thread goes on to evaluate for other games
+                MyRandom.bindToThread(previousRandom);
+                finished.countDown();
+            }
+        });
 
-        FutureTask<SpellAbility> future = new FutureTask<>(() -> {
-            //avoid ComputerUtil.aiLifeInDanger in loops as it slows down a lot.. call this outside loops will generally be fast...
-            boolean isLifeInDanger = useLivingEnd && ComputerUtil.aiLifeInDanger(player, true, 0);
-            for (final SpellAbility sa : ComputerUtilAbility.getOriginalAndAltCostAbilities(all, player)) {
-                // Don't add Counterspells to the "normal" playcard lookups
-                if (skipCounter && sa.getApi() == ApiType.Counter) {
-                    continue;
+        try {
+            return future.get(game.getAITimeout(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            e.printStackTrace();
+            future.cancel(true);
+            // give the evaluation a chance to reach its next check and stop before the game moves on,
+            // unless it never got a thread
+            if (!started.compareAndSet(false, true)) {
+                try {
+                    finished.await(CANCEL_GRACE_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
                 }
+            }
+            // TODO mark some as skipped to increase chance to find something playable next priority
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 
-                if (timeoutReached) {
-                    timeoutReached = false;
-                    break;
-                }
+    private SpellAbility evaluateSpellAbilities(final List<SpellAbility> all, boolean skipCounter) {
+        //avoid ComputerUtil.aiLifeInDanger in loops as it slows down a lot.. call this outside loops will generally be fast...
+        boolean isLifeInDanger = useLivingEnd && ComputerUtil.aiLifeInDanger(player, true, 0);
+        for (final SpellAbility sa : ComputerUtilAbility.getOriginalAndAltCostAbilities(all, player)) {
+            // Don't add Counterspells to the "normal" playcard lookups
+            if (skipCounter && sa.getApi() == ApiType.Counter) {
+                continue;
+            }
 
-                if (sa.getHostCard().hasKeyword(Keyword.STORM)
-                        && sa.getApi() != ApiType.Counter // AI would suck at trying to deliberately proc a Storm counterspell
-                        && player.getZone(ZoneType.Hand).contains(
-                                Predicate.not(CardPredicates.LANDS.or(CardPredicates.hasKeyword("Storm")))
-                    )) {
-                    if (game.getView().getStormCount() < this.getIntProperty(AiProps.MIN_COUNT_FOR_STORM_SPELLS)) {
-                        // skip evaluating Storm unless we reached the minimum Storm count
-                        continue;
-                    }
+            // cancelled after the AI timeout
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            if (sa.getHostCard().hasKeyword(Keyword.STORM)
+                    && sa.getApi() != ApiType.Counter // AI would suck at trying to deliberately proc a Storm counterspell
+                    && player.getZone(ZoneType.Hand).contains(
+                            Predicate.not(CardPredicates.LANDS.or(CardPredicates.hasKeyword("Storm")))
+                )) {
+                if (game.getView().getStormCount() < this.getIntProperty(AiProps.MIN_COUNT_FOR_STORM_SPELLS)) {
+                    // skip evaluating Storm unless we reached the minimum Storm count
+                    continue;
                 }
+            }
 
-                // living end AI decks
-                // TODO: generalize the implementation so that superfluous logic-specific checks for life, library size, etc. aren't needed
-                AiPlayDecision aiPlayDecision = AiPlayDecision.CantPlaySa;
-                if (useLivingEnd) {
-                    if (sa.isCycling() && sa.canCastTiming(player)
-                            && player.getCardsIn(ZoneType.Library).size() >= 10) {
-                        if (ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
-                            if (sa.getPayCosts() != null && sa.getPayCosts().hasSpecificCostType(CostPayLife.class)
-                                    && !player.cantLoseForZeroOrLessLife() && player.getLife() <= sa.getPayCosts()
-                                            .getCostPartByType(CostPayLife.class).getAbilityAmount(sa) * 2) {
-                                aiPlayDecision = AiPlayDecision.CantAfford;
-                            } else {
-                                aiPlayDecision = AiPlayDecision.WillPlay;
-                            }
-                        }
-                    } else if (sa.getHostCard().hasKeyword(Keyword.CASCADE)) {
-                        if (isLifeInDanger) { // needs more tune up for certain conditions
-                            aiPlayDecision = player.getCreaturesInPlay().size() >= 4 ? AiPlayDecision.CantPlaySa
-                                    : AiPlayDecision.WillPlay;
-                        } else if (CardLists
-                                .filter(player.getZone(ZoneType.Graveyard).getCards(), CardPredicates.CREATURES)
-                                .size() > 4) {
-                            if (player.getCreaturesInPlay().size() >= 4) // it's good minimum
-                                continue;
-                            else if (!sa.getHostCard().isPermanent() && sa.canCastTiming(player)
-                                    && ComputerUtilCost.canPayCost(sa, player, sa.isTrigger()))
-                                aiPlayDecision = AiPlayDecision.WillPlay;
-                            // needs tuneup for bad matchups like reanimator and other things to check on opponent graveyard
+            // living end AI decks
+            // TODO: generalize the implementation so that superfluous logic-specific checks for life, library size, etc. aren't needed
+            AiPlayDecision aiPlayDecision = AiPlayDecision.CantPlaySa;
+            if (useLivingEnd) {
+                if (sa.isCycling() && sa.canCastTiming(player)
+                        && player.getCardsIn(ZoneType.Library).size() >= 10) {
+                    if (ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
+                        if (sa.getPayCosts() != null && sa.getPayCosts().hasSpecificCostType(CostPayLife.class)
+                                && !player.cantLoseForZeroOrLessLife() && player.getLife() <= sa.getPayCosts()
+                                        .getCostPartByType(CostPayLife.class).getAbilityAmount(sa) * 2) {
+                            aiPlayDecision = AiPlayDecision.CantAfford;
                         } else {
-                            continue;
+                            aiPlayDecision = AiPlayDecision.WillPlay;
                         }
                     }
+                } else if (sa.getHostCard().hasKeyword(Keyword.CASCADE)) {
+                    if (isLifeInDanger) { // needs more tune up for certain conditions
+                        aiPlayDecision = player.getCreaturesInPlay().size() >= 4 ? AiPlayDecision.CantPlaySa
+                                : AiPlayDecision.WillPlay;
+                    } else if (CardLists
+                            .filter(player.getZone(ZoneType.Graveyard).getCards(), CardPredicates.CREATURES)
+                            .size() > 4) {
+                        if (player.getCreaturesInPlay().size() >= 4) // it's good minimum
+                            continue;
+                        else if (!sa.getHostCard().isPermanent() && sa.canCastTiming(player)
+                                && ComputerUtilCost.canPayCost(sa, player, sa.isTrigger()))
+                            aiPlayDecision = AiPlayDecision.WillPlay;
+                        // needs tuneup for bad matchups like reanimator and other things to check on opponent graveyard
+                    } else {
+                        continue;
+                    }
                 }
+            }
 
-                sa.setActivatingPlayer(player);
-                SpellAbility root = sa.getRootAbility();
-
-                if (root.isSpell() || root.isTrigger() || root.isReplacementAbility()) {
-                    sa.setLastStateBattlefield(game.getLastStateBattlefield());
-                    sa.setLastStateGraveyard(game.getLastStateGraveyard());
-                }
-                //override decision for living end player
-                AiPlayDecision opinion = useLivingEnd && AiPlayDecision.WillPlay.equals(aiPlayDecision) ? aiPlayDecision : canPlayAndPayFor(sa);
-
-                // reset LastStateBattlefield
-                sa.clearLastState();
-                // PhaseHandler ph = game.getPhaseHandler();
-                // System.out.printf("Ai thinks '%s' of %s -> %s @ %s %s >>> \n", opinion, sa.getHostCard(), sa, Lang.getInstance().getPossesive(ph.getPlayerTurn().getName()), ph.getPhase());
-
-                if (opinion != AiPlayDecision.WillPlay)
-                    continue;
+            sa.setActivatingPlayer(player);
+            SpellAbility root = sa.getRootAbility();
 
-                return sa;
+            if (root.isSpell() || root.isTrigger() || root.isReplacementAbility()) {
+                sa.setLastStateBattlefield(game.getLastStateBattlefield());
+                sa.setLastStateGraveyard(game.getLastStateGraveyard());
             }
+            //override decision for living end player
+            AiPlayDecision opinion = useLivingEnd && AiPlayDecision.WillPlay.equals(aiPlayDecision) ? aiPlayDecision : canPlayAndPayFor(sa);
 
-            return null;
-        });
+            // reset LastStateBattlefield
+            sa.clearLastState();
+            // PhaseHandler ph = game.getPhaseHandler();
+            // System.out.printf("Ai thinks '%s' of %s -> %s @ %s %s >>> \n", opinion, sa.getHostCard(), sa, Lang.getInstance().getPossesive(ph.getPlayerTurn().getName()), ph.getPhase());
 
-        Thread t = new Thread(future, "Game AI Eval");
-        t.start();
-        try {
-            return future.get(game.getAITimeout(), TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            try {
-                e.printStackTrace();
-                t.stop();
-            } catch (UnsupportedOperationException ex) {
-                // Android and Java 20 dropped support to stop so sadly thread will keep running
-                timeoutReached = true;
-                future.cancel(true);
-                // TODO wait a few more seconds to try and exit at a safe point before letting the engine continue
-                // TODO mark some as skipped to increase chance to find something playable next priority
-            }
-            return null;
+            if (opinion != AiPlayDecision.WillPlay)
+                continue;
+
+            return sa;
         }
+
+        return null;
     }
 
     public CardCollection chooseCardsToDelve(int genericCost, CardCollection grave) {
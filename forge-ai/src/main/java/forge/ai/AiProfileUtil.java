@@ -197,11 +197,19 @@ public class AiProfileUtil {
 
     /**
      * Returns a random personality from the currently available ones.
+     * Profiles that switch on the simulation AI are left out, they have to be chosen on purpose.
      * @return String - a string containing a random profile from all the
      * currently available ones.
      */
     public static String getRandomProfile() {
-        return Aggregates.random(getAvailableProfiles());
+        final List<String> profiles = getAvailableProfiles();
+        profiles.removeIf(AiProfileUtil::usesSimulation);
+        return Aggregates.random(profiles);
+    }
+
+    private static boolean usesSimulation(final String profileName) {
+        final Map<AiProps, String> profile = loadedProfiles.get(profileName);
+        return profile != null && Boolean.parseBoolean(profile.get(AiProps.SIMULATION_USE_MCTS));
     }
 
     /**
@@ -145,7 +145,12 @@ public enum AiProps { /** */
     SIDEBOARDING_CHANCE_ON_WIN("0"),
     SIDEBOARDING_IN_LIMITED_FORMATS("false"),
     SIDEBOARDING_SHARED_TYPE_ONLY("false"),
-    SIDEBOARDING_PLANESWALKER_EQ_CREATURE("false");
+    SIDEBOARDING_PLANESWALKER_EQ_CREATURE("false"),
+    SIMULATION_MAX_DEPTH("3"),
+    SIMULATION_TIME_BUDGET("0"),
+    SIMULATION_MAX_SIMULATIONS("0"),
+    SIMULATION_USE_MCTS("false"),
+    SIMULATION_MCTS_MAX_PLAYOUTS("500");
     // Experimental features, must be promoted or removed after extensive testing and, ideally, defaulting
     // <-- There are no experimental options here -->
 
@@ -42,7 +42,8 @@ public class LobbyPlayerAi extends LobbyPlayer implements IGameEntitiesFactory {
 
     private PlayerControllerAi createControllerFor(Player ai) {
         PlayerControllerAi result = new PlayerControllerAi(ai.getGame(), ai, this);
-        result.setUseSimulation(useSimulation);
+        // the Monte Carlo tree search of a profile is part of the simulation AI
+        result.setUseSimulation(useSimulation || Boolean.parseBoolean(AiProfileUtil.getAIProp(this, AiProps.SIMULATION_USE_MCTS)));
         result.allowCheatShuffle(allowCheatShuffle);
         return result;
     }
@@ -41,10 +41,6 @@ public class ChangeZoneAi extends SpellAbilityAi {
      * too much: blink/bounce/exile/tutor/Raise Dead/Surgical Extraction/......
      */
 
-    // multipleCardsToChoose is used by Intuition and can be adapted to be used by other
-    // cards where multiple cards are fetched at once and they need to be coordinated
-    private static CardCollection multipleCardsToChoose = new CardCollection();
-
     protected boolean willPayCosts(Player payer, SpellAbility sa, Cost cost, Card source) {
         if (sa.isHidden()) {
             if (!ComputerUtilCost.checkSacrificeCost(payer, cost, source, sa)
@@ -150,7 +146,9 @@ public class ChangeZoneAi extends SpellAbilityAi {
 
     @Override
     protected AiAbilityDecision checkApiLogic(Player aiPlayer, SpellAbility sa) {
-        multipleCardsToChoose.clear();
+        // MULTIPLE_CARDS_TO_CHOOSE is used by Intuition and can be adapted to be used by other
+        // cards where multiple cards are fetched at once and they need to be coordinated
+        AiCardMemory.clearMemorySet(aiPlayer, AiCardMemory.MemorySet.MULTIPLE_CARDS_TO_CHOOSE);
         String aiLogic = sa.getParam("AILogic");
         if (aiLogic != null) {
             if (aiLogic.equals("Always")) {
@@ -170,7 +168,9 @@ public class ChangeZoneAi extends SpellAbilityAi {
             } else if (aiLogic.equals("Intuition")) {
                 // This logic only fills the multiple cards array, the decision to play is made
                 // separately in hiddenOriginCanPlayAI later.
-                multipleCardsToChoose = SpecialCardAi.Intuition.considerMultiple(aiPlayer, sa);
+                for (Card c : SpecialCardAi.Intuition.considerMultiple(aiPlayer, sa)) {
+                    AiCardMemory.rememberCard(aiPlayer, c, AiCardMemory.MemorySet.MULTIPLE_CARDS_TO_CHOOSE);
+                }
             } else if (aiLogic.equals("MazesEnd")) {
                 return SpecialCardAi.MazesEnd.consider(aiPlayer, sa);
             } else if (aiLogic.equals("Pongify")) {
@@ -1524,10 +1524,11 @@ public class ChangeZoneAi extends SpellAbilityAi {
             } else if ("MazesEnd".equals(logic)) {
                 return SpecialCardAi.MazesEnd.considerCardToGet(decider, sa);
             } else if ("Intuition".equals(logic)) {
-                if (!multipleCardsToChoose.isEmpty()) {
-                    Card choice = multipleCardsToChoose.get(0);
-                    multipleCardsToChoose.remove(0);
-                    return choice;
+                for (Card choice : fetchList) {
+                    if (AiCardMemory.isRememberedCard(decider, choice, AiCardMemory.MemorySet.MULTIPLE_CARDS_TO_CHOOSE)) {
+                        AiCardMemory.forgetCard(decider, choice, AiCardMemory.MemorySet.MULTIPLE_CARDS_TO_CHOOSE);
+                        return choice;
+                    }
                 }
             } else if (logic.startsWith("ExilePreference")) {
                 return doExilePreferenceLogic(decider, sa, fetchList);
@@ -27,6 +27,7 @@ import forge.game.trigger.TriggerType;
 import forge.game.zone.PlayerZoneBattlefield;
 import forge.game.zone.ZoneType;
 import forge.item.PaperCard;
+import forge.util.SeededRandom;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,7 @@ public class GameCopier {
     private BiMap<Card, Card> cardMap = HashBiMap.create();
     private CopiedGameObjectMap gameObjectMap;
     private GameSnapshot snapshot = null;
+    private SeededRandom random = null;
 
     public GameCopier(Game origGame) {
         this.origGame = origGame;
@@ -64,13 +66,30 @@ public class GameCopier {
         return gameObjectMap.getGame();
     }
 
+    /**
+     * Sets what the next copy draws from, instead of a split of the original game's.
+     */
+    public void setRandom(SeededRandom random) {
+        this.random = random;
+    }
+
+    private SeededRandom takeRandom() {
+        SeededRandom result = random != null ? random : origGame.getRandom().splitForCopy();
+        random = null;
+        return result;
+    }
+
     public Game makeCopy() {
         return makeCopy(null, null);
     }
     public Game makeCopy(PhaseType advanceToPhase, Player aiPlayer) {
         if (origGame.EXPERIMENTAL_RESTORE_SNAPSHOT) {
             // How do we advance to phase when using restores?
-            return snapshot.makeCopy();
+            Game newGame = snapshot.makeCopy();
+            if (random != null) {
+                newGame.setRandom(takeRandom());
+            }
+            return newGame;
         }
 
         List<RegisteredPlayer> origPlayers = origGame.getMatch().getPlayers();
@@ -82,6 +101,9 @@ public class GameCopier {
         GameRules currentRules = origGame.getRules();
         Match newMatch = new Match(currentRules, newPlayers, origGame.getView().getTitle());
         Game newGame = new Game(newPlayers, currentRules, newMatch);
+        // nobody looks at the copies the AI plays ahead with
+        newGame.setHeadless(true);
+        newGame.setRandom(takeRandom());
         newGame.dangerouslySetTimestamp(origGame.getTimestamp());
 
         for (int i = 0; i < origGame.getPlayers().size(); i++) {
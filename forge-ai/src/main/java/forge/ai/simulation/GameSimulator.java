@@ -12,13 +12,17 @@ import forge.game.phase.PhaseType;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.TargetChoices;
+import forge.util.SeededRandom;
 import forge.util.collect.FCollectionView;
 
 import java.util.*;
 
 public class GameSimulator {
     public static boolean COPY_STACK = false;
+    // scores every copy to compare it with the original, not just the ones hashing differently
+    public static boolean CHECK_GAME_COPIES = false;
     final private SimulationController controller;
+    final private Game origGame;
     private GameCopier copier;
     private Game simGame;
     private Player aiPlayer;
@@ -26,50 +30,71 @@ public class GameSimulator {
     private List<String> origLines;
     private Score origScore;
     private SpellAbilityChoicesIterator interceptor;
+    private boolean disposable;
 
     public GameSimulator(SimulationController controller, Game origGame, Player origAiPlayer, PhaseType advanceToPhase) {
-        this.controller = controller;
-        copier = new GameCopier(origGame);
-        simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
+        this(controller, origGame, origAiPlayer, advanceToPhase, null);
+    }
 
-        aiPlayer = (Player) copier.find(origAiPlayer);
+    /**
+     * @param random what the simulated game draws from, so simulating the same choices again plays out the same,
+     * or null for a split of the original game's
+     */
+    public GameSimulator(SimulationController controller, Game origGame, Player origAiPlayer, PhaseType advanceToPhase, SeededRandom random) {
+        this.controller = controller;
+        this.origGame = origGame;
         eval = new GameStateEvaluator();
 
-        origLines = new ArrayList<>();
-        debugLines = origLines;
+        // root candidates are simulated side by side, and even reading a game may update its caches,
+        // so only one of them copies the original game at a time
+        synchronized (origGame) {
+            copier = new GameCopier(origGame);
+            copier.setRandom(random);
+            simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
 
-        debugPrint = false;
-        origScore = eval.getScoreForGameState(origGame, origAiPlayer);
+            aiPlayer = (Player) copier.find(origAiPlayer);
 
-        if (advanceToPhase == null) {
-            ensureGameCopyScoreMatches(origGame, origAiPlayer);
-        }
-
-        // If the stack on the original game is not empty, resolve it
-        // first and get the updated eval score, since this is what we'll
-        // want to compare to the eval score after simulating.
-        if (COPY_STACK && !origGame.getStackZone().isEmpty()) {
             origLines = new ArrayList<>();
-            debugLines = origLines;
-            Game copyOrigGame = copier.makeCopy();
-            Player copyOrigAiPlayer = copyOrigGame.getPlayers().get(1);
-            resolveStack(copyOrigGame, copyOrigGame.getPlayers().get(0));
-            origScore = eval.getScoreForGameState(copyOrigGame, copyOrigAiPlayer);
+            debugLines.set(origLines);
+
+            debugPrint.set(false);
+            origScore = controller.getTranspositions().getScoreForGameState(eval, origGame, origAiPlayer);
+
+            if (advanceToPhase == null) {
+                ensureGameCopyScoreMatches(origGame, origAiPlayer);
+            }
+
+            // If the stack on the original game is not empty, resolve it
+            // first and get the updated eval score, since this is what we'll
+            // want to compare to the eval score after simulating.
+            if (COPY_STACK && !origGame.getStackZone().isEmpty()) {
+                origLines = new ArrayList<>();
+                debugLines.set(origLines);
+                Game copyOrigGame = copier.makeCopy();
+                Player copyOrigAiPlayer = copyOrigGame.getPlayers().get(1);
+                resolveStack(copyOrigGame, copyOrigGame.getPlayers().get(0));
+                origScore = eval.getScoreForGameState(copyOrigGame, copyOrigAiPlayer, true);
+            }
         }
 
-        debugPrint = false;
-        debugLines = null;
+        debugPrint.set(false);
+        debugLines.remove();
     }
 
     private void ensureGameCopyScoreMatches(Game origGame, Player origAiPlayer) {
+        // a copy hashing like the original scores like it too, the same the transposition table relies on;
+        // only scoring it tells copy errors in what the hash leaves out, like counters, attachments or effects
+        if (!CHECK_GAME_COPIES && GameStateHash.of(simGame, aiPlayer) == GameStateHash.of(origGame, origAiPlayer)) {
+            return;
+        }
         eval.setDebugging(true);
         List<String> simLines = new ArrayList<>();
-        debugLines = simLines;
+        debugLines.set(simLines);
         Score simScore = eval.getScoreForGameState(simGame, aiPlayer);
         if (!simScore.equals(origScore)) {
             // Re-eval orig with debug printing.
             origLines = new ArrayList<>();
-            debugLines = origLines;
+            debugLines.set(origLines);
             eval.getScoreForGameState(origGame, origAiPlayer);
             // Print debug info.
             printDiff(origLines, simLines);
@@ -85,6 +110,14 @@ public class GameSimulator {
         ((PlayerControllerAi) aiPlayer.getController()).getAi().getSimulationPicker().setInterceptor(interceptor);
     }
 
+    /**
+     * Lets a simulation that isn't searched on use up its game to score it, instead of scoring a copy.
+     * The simulated game state is of no use afterwards then.
+     */
+    public void setDisposable(boolean disposable) {
+        this.disposable = disposable;
+    }
+
     private void printDiff(List<String> lines1, List<String> lines2) {
         int i = 0;
         int j = 0;
@@ -112,14 +145,22 @@ public class GameSimulator {
         }
     }
 
-    public static boolean debugPrint;
-    public static List<String> debugLines;
+    // per thread, since root candidates are simulated side by side
+    private static final ThreadLocal<Boolean> debugPrint = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<List<String>> debugLines = new ThreadLocal<>();
+    public static boolean isDebugPrint() {
+        return debugPrint.get();
+    }
+    public static void setDebugPrint(boolean print) {
+        debugPrint.set(print);
+    }
     public static void debugPrint(String str) {
-        if (debugPrint) {
+        if (debugPrint.get()) {
             System.out.println(str);
         }
-        if (debugLines != null) {
-            debugLines.add(str);
+        final List<String> lines = debugLines.get();
+        if (lines != null) {
+            lines.add(str);
         }
     }
 
@@ -168,40 +209,47 @@ public class GameSimulator {
     }
     public Score simulateSpellAbility(SpellAbility origSa, GameStateEvaluator eval, boolean resolve) {
         SpellAbility sa;
-        if (origSa.isLandAbility()) {
-            Card hostCard = (Card) copier.find(origSa.getHostCard());
-            if (!aiPlayer.playLand(hostCard, false, origSa)) {
-                System.err.println("Simulation: Couldn't play land! " + origSa);
-            }
-            sa = origSa;
-        } else {
-            // TODO: optimize: prune identical SA (e.g. two of the same card in hand)
-            sa = findSaInSimGame(origSa);
-            if (sa == null) {
-                System.err.println("Simulation: SA not found! " + origSa + " / " + origSa.getClass());
-                return new Score(Integer.MIN_VALUE);
-            }
+        final boolean isLand;
+        // the ability belongs to the original game, which other simulations may be copying, see the constructor
+        synchronized (origGame) {
+            isLand = origSa.isLandAbility();
+            if (isLand) {
+                Card hostCard = (Card) copier.find(origSa.getHostCard());
+                if (!aiPlayer.playLand(hostCard, false, origSa)) {
+                    System.err.println("Simulation: Couldn't play land! " + origSa);
+                }
+                sa = origSa;
+            } else {
+                // TODO: optimize: prune identical SA (e.g. two of the same card in hand)
+                sa = findSaInSimGame(origSa);
+                if (sa == null) {
+                    System.err.println("Simulation: SA not found! " + origSa + " / " + origSa.getClass());
+                    return new Score(Integer.MIN_VALUE);
+                }
 
-            debugPrint("Found SA " + sa + " on host card " + sa.getHostCard() + " with owner:"+ sa.getHostCard().getOwner());
-            sa.setActivatingPlayer(aiPlayer);
-            SpellAbility origSaOrSubSa = origSa;
-            SpellAbility saOrSubSa = sa;
-            do {
-                if (origSaOrSubSa.usesTargeting()) {
-                    final boolean divided = origSaOrSubSa.isDividedAsYouChoose();
-                    for (final GameObject o : origSaOrSubSa.getTargets()) {
-                        final GameObject target = copier.find(o);
-                        saOrSubSa.getTargets().add(target);
-                        if (divided) {
-                            saOrSubSa.addDividedAllocation(target, origSaOrSubSa.getDividedValue(o));
+                debugPrint("Found SA " + sa + " on host card " + sa.getHostCard() + " with owner:"+ sa.getHostCard().getOwner());
+                sa.setActivatingPlayer(aiPlayer);
+                SpellAbility origSaOrSubSa = origSa;
+                SpellAbility saOrSubSa = sa;
+                do {
+                    if (origSaOrSubSa.usesTargeting()) {
+                        final boolean divided = origSaOrSubSa.isDividedAsYouChoose();
+                        for (final GameObject o : origSaOrSubSa.getTargets()) {
+                            final GameObject target = copier.find(o);
+                            saOrSubSa.getTargets().add(target);
+                            if (divided) {
+                                saOrSubSa.addDividedAllocation(target, origSaOrSubSa.getDividedValue(o));
+                            }
                         }
                     }
-                }
-                origSaOrSubSa = origSaOrSubSa.getSubAbility();
-                saOrSubSa = saOrSubSa.getSubAbility();
-            } while (saOrSubSa != null);
+                    origSaOrSubSa = origSaOrSubSa.getSubAbility();
+                    saOrSubSa = saOrSubSa.getSubAbility();
+                } while (saOrSubSa != null);
+            }
+        }
 
-            if (debugPrint && !sa.getAllTargetChoices().isEmpty()) {
+        if (!isLand) {
+            if (debugPrint.get() && !sa.getAllTargetChoices().isEmpty()) {
                 debugPrint("Targets: ");
                 for (TargetChoices target : sa.getAllTargetChoices()) {
                     System.out.print(target);
@@ -232,20 +280,39 @@ public class GameSimulator {
         // we should simulate how combat will resolve and evaluate that
         // state instead!
         List<String> simLines = null;
-        if (debugPrint) {
+        if (debugPrint.get()) {
             debugPrint("SimGame:");
             simLines = new ArrayList<>();
-            debugLines = simLines;
-            debugPrint = false;
+            debugLines.set(simLines);
+            debugPrint.set(false);
+        }
+        long stateHash = GameStateHash.of(simGame, aiPlayer);
+        // a line that ends here leaves the game behind, unless whoever made the simulator still wants to look at it
+        boolean recurse = controller.shouldRecurse();
+        if (!recurse) {
+            // before scoring, which may use up the game
+            controller.checkDepthLimit(simGame, aiPlayer);
         }
-        Score score = eval.getScoreForGameState(simGame, aiPlayer);
+        boolean dispose = disposable && !recurse;
+        if (dispose && interceptor != null) {
+            // combat is played out on this game then, its choices must not end up among the ones enumerated for the spell
+            setInterceptor(null);
+        }
+        Score score = controller.getTranspositions().getScoreForGameState(eval, simGame, aiPlayer, stateHash, dispose);
         if (simLines != null) {
-            debugLines = null;
-            debugPrint = true;
+            debugLines.remove();
+            debugPrint.set(true);
             printDiff(origLines, simLines);
         }
-        controller.possiblyCacheResult(score, origSa);
-        if (controller.shouldRecurse() && !simGame.isGameOver()) {
+        synchronized (origGame) {
+            controller.possiblyCacheResult(score, origSa);
+        }
+        if (recurse && !simGame.isGameOver()) {
+            // the same state came up in another branch already, the plan then ends here but keeps the score of the line found there
+            Score searched = controller.getSearchedScore(stateHash);
+            if (searched != null) {
+                return searched;
+            }
             controller.push(sa, score, this);
             SpellAbilityPicker sim = new SpellAbilityPicker(simGame, aiPlayer);
             SpellAbility nextSa = sim.chooseSpellAbilityToPlay(controller);
@@ -253,6 +320,7 @@ public class GameSimulator {
                 score = sim.getScoreForChosenAbility();
             }
             controller.pop(score, nextSa);
+            controller.putSearchedScore(stateHash, score);
         }
 
         return score;
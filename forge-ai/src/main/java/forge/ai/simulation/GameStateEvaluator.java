@@ -6,6 +6,7 @@ import forge.card.mana.ManaAtom;
 import forge.game.Game;
 import forge.game.card.Card;
 import forge.game.card.CounterEnumType;
+import forge.game.combat.CombatUtil;
 import forge.game.cost.CostSacrifice;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
@@ -13,9 +14,12 @@ import forge.game.spellability.AbilityManaPart;
 import forge.game.spellability.SpellAbility;
 import forge.game.staticability.StaticAbility;
 import forge.game.zone.ZoneType;
+import forge.util.MyRandom;
+import forge.util.SeededRandom;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 
 import static java.lang.Math.max;
@@ -37,7 +41,7 @@ public class GameStateEvaluator {
         public GameCopier copier;
         public Game gameCopy;
     }
-    private CombatSimResult simulateUpcomingCombatThisTurn(final Game evalGame, final Player aiPlayer) {
+    private CombatSimResult simulateUpcomingCombatThisTurn(final Game evalGame, final Player aiPlayer, final boolean disposable) {
         PhaseType phase = evalGame.getPhaseHandler().getPhase();
         if (phase.isAfter(PhaseType.COMBAT_DAMAGE) || evalGame.isGameOver()) {
             return null;
@@ -49,17 +53,39 @@ public class GameStateEvaluator {
         if (evalGame.getPhaseHandler().getPlayerTurn().getCreaturesInPlay().isEmpty()) {
             return null;
         }
+        // Likewise once attackers were declared and nobody attacked, or when none of the creatures can attack.
+        if (phase.isAfter(PhaseType.COMBAT_DECLARE_ATTACKERS) && !evalGame.getPhaseHandler().inCombat()) {
+            return null;
+        }
+        if (phase.isBefore(PhaseType.COMBAT_DECLARE_ATTACKERS)
+                && !evalGame.getPhaseHandler().getPlayerTurn().getCreaturesInPlay().anyMatch(CombatUtil::canAttack)) {
+            return null;
+        }
 
+        final long seed = GameStateHash.of(evalGame, aiPlayer);
         Game gameCopy;
-        GameCopier copier = new GameCopier(evalGame);
+        GameCopier copier = null;
 
-        if (evalGame.EXPERIMENTAL_RESTORE_SNAPSHOT) {
+        if (disposable) {
+            // nothing looks at the game afterwards, so combat can be played out on it instead of on a copy
+            gameCopy = evalGame;
+        } else if (evalGame.EXPERIMENTAL_RESTORE_SNAPSHOT) {
+            copier = new GameCopier(evalGame);
             gameCopy = copier.makeCopy();
         } else {
+            copier = new GameCopier(evalGame);
             gameCopy = copier.makeCopy(null, aiPlayer);
         }
 
-        gameCopy.getPhaseHandler().devAdvanceToPhase(PhaseType.COMBAT_DAMAGE, () -> GameSimulator.resolveStack(gameCopy, aiPlayer.getWeakestOpponent()));
+        // random choices in combat, like modes of attack triggers, mustn't make the same state score differently,
+        // depending on what was drawn before, so they're drawn from a seed of the state
+        gameCopy.setRandom(new SeededRandom(seed));
+        final Random origRandom = MyRandom.bindToThread(gameCopy.getRandom());
+        try {
+            gameCopy.getPhaseHandler().devAdvanceToPhase(PhaseType.COMBAT_DAMAGE, () -> GameSimulator.resolveStack(gameCopy, aiPlayer.getWeakestOpponent()));
+        } finally {
+            MyRandom.bindToThread(origRandom);
+        }
         CombatSimResult result = new CombatSimResult();
         result.copier = copier;
         result.gameCopy = gameCopy;
@@ -84,13 +110,20 @@ public class GameStateEvaluator {
     }
 
     public Score getScoreForGameState(Game game, Player aiPlayer) {
+        return getScoreForGameState(game, aiPlayer, false);
+    }
+
+    /**
+     * @param disposable whether the game is thrown away after scoring it, it's then played on to the upcoming combat damage
+     */
+    public Score getScoreForGameState(Game game, Player aiPlayer, boolean disposable) {
         if (game.isGameOver()) {
             return getScoreForGameOver(game, aiPlayer);
         }
 
-        CombatSimResult result = simulateUpcomingCombatThisTurn(game, aiPlayer);
+        CombatSimResult result = simulateUpcomingCombatThisTurn(game, aiPlayer, disposable);
         if (result != null) {
-            Player aiPlayerCopy = (Player) result.copier.find(aiPlayer);
+            Player aiPlayerCopy = result.copier == null ? aiPlayer : (Player) result.copier.find(aiPlayer);
             if (result.gameCopy.isGameOver()) {
                 return getScoreForGameOver(result.gameCopy, aiPlayerCopy);
             }
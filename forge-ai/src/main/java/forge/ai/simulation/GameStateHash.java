@@ -0,0 +1,128 @@
+package forge.ai.simulation;
+
+import forge.game.Game;
+import forge.game.GameEntity;
+import forge.game.card.Card;
+import forge.game.card.CounterType;
+import forge.game.combat.Combat;
+import forge.game.keyword.KeywordInterface;
+import forge.game.phase.PhaseHandler;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.zone.ZoneType;
+
+import java.util.Map;
+
+/**
+ * Zobrist style hash of what {@link GameStateEvaluator} and the simulation look at in a game, seen by one AI player.
+ * <p>
+ * Every card, stack entry and player adds a key derived from its features instead of looked up in a table of
+ * random numbers, and the keys are added up instead of xored, so two identical cards don't cancel each other out.
+ * The hash ignores card ids and the order of cards in a zone: the same board reached by playing spells in
+ * another order, or in another copy of the game, hashes the same.
+ */
+public final class GameStateHash {
+    private static final ZoneType[] ZONES = new ZoneType[] {
+        ZoneType.Battlefield,
+        ZoneType.Hand,
+        ZoneType.Graveyard,
+        ZoneType.Library,
+        ZoneType.Exile,
+        ZoneType.Command,
+    };
+
+    private GameStateHash() { }
+
+    public static long of(final Game game, final Player aiPlayer) {
+        final PhaseHandler ph = game.getPhaseHandler();
+        long hash = mix(aiPlayer.getId());
+        hash = mix(hash + (ph.getPhase() == null ? -1 : ph.getPhase().ordinal()));
+        hash = mix(hash + ph.getTurn());
+        hash = mix(hash + playerId(ph.getPlayerTurn()));
+        hash = mix(hash + playerId(game.getMonarch()));
+        hash = mix(hash + playerId(game.getHasInitiative()));
+
+        for (final Player p : game.getPlayers()) {
+            hash += playerKey(p);
+        }
+        final Combat combat = ph.getCombat();
+        for (final ZoneType zone : ZONES) {
+            for (final Card c : game.getCardsIn(zone)) {
+                hash += cardKey(c, zone, combat);
+            }
+        }
+        for (final SpellAbilityStackInstance si : game.getStack()) {
+            long key = mix(ZoneType.Stack.ordinal());
+            key = mix(key + si.getStackDescription().hashCode());
+            key = mix(key + playerId(si.getActivatingPlayer()));
+            hash += key;
+        }
+        return hash;
+    }
+
+    private static long playerKey(final Player p) {
+        long key = mix(p.getId() + 1000);
+        key = mix(key + p.getLife());
+        key = mix(key + p.getLandsPlayedThisTurn());
+        key = mix(key + p.getSpellsCastThisTurn());
+        key = mix(key + p.getManaPool().totalMana());
+        key = mix(key + p.getMaxHandSize());
+        return key + countersKey(p.getCounters());
+    }
+
+    private static long cardKey(final Card c, final ZoneType zone, final Combat combat) {
+        long key = mix(zone.ordinal());
+        key = mix(key + c.getName().hashCode());
+        key = mix(key + playerId(c.getOwner()));
+        key = mix(key + playerId(c.getController()));
+        if (zone != ZoneType.Battlefield) {
+            return key;
+        }
+
+        key = mix(key + c.getCurrentStateName().ordinal());
+        key = mix(key + flags(c.isToken(), c.isTapped(), c.isSick(), c.isFaceDown(), c.isPhasedOut()));
+        key = mix(key + c.getType().toString().hashCode());
+        key = mix(key + c.getNetPower());
+        key = mix(key + c.getNetToughness());
+        key = mix(key + c.getDamage());
+        final GameEntity attachedTo = c.getEntityAttachedTo();
+        if (attachedTo != null) {
+            key = mix(key + attachedTo.getName().hashCode());
+        }
+        if (combat != null) {
+            key = mix(key + flags(combat.isAttacking(c), combat.isBlocking(c)));
+        }
+        long keywords = 0;
+        for (final KeywordInterface kw : c.getKeywords()) {
+            keywords += mix(kw.getOriginal().hashCode());
+        }
+        return mix(key + keywords) + countersKey(c.getCounters());
+    }
+
+    private static long countersKey(final Map<CounterType, Integer> counters) {
+        long key = 0;
+        for (final Map.Entry<CounterType, Integer> e : counters.entrySet()) {
+            key += mix(mix(e.getKey().toString().hashCode()) + e.getValue());
+        }
+        return key;
+    }
+
+    private static int playerId(final Player p) {
+        return p == null ? -1 : p.getId();
+    }
+
+    private static int flags(final boolean... values) {
+        int flags = 1;
+        for (final boolean value : values) {
+            flags = flags << 1 | (value ? 1 : 0);
+        }
+        return flags;
+    }
+
+    // SplitMix64 finalizer, spreads each feature over all bits
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,386 @@
+package forge.ai.simulation;
+
+import com.google.common.base.Throwables;
+import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.PlayerZone;
+import forge.game.zone.ZoneType;
+import forge.util.MyRandom;
+import forge.util.SeededRandom;
+import forge.util.ThreadUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses what the simulation AI plays next by Monte Carlo tree search instead of searching every sequence.
+ * <p>
+ * The tree holds the sequences of spells and abilities the AI can play before passing priority, a child for every
+ * way to play one, with all the choices {@link SpellAbilityPicker} would look at. Which sequence to look at next
+ * is picked by UCT. A playout copies the state a sequence leads to, samples what the AI can't know - the order
+ * of its library and the cards in the hands of its opponents - and plays the turn on to its end step, combat
+ * included, before the state is scored. Playouts run on a few AI threads sharing the tree, a virtual loss keeps
+ * them from all following the same line.
+ */
+public final class MonteCarloTreeSearch {
+    // playouts don't get priority, so past the end step only turn based actions would be left
+    private static final PhaseType PLAYOUT_HORIZON = PhaseType.END_OF_TURN;
+    // a score difference of this much is worth about three quarters of a win
+    private static final double REWARD_SCALE = 100;
+    private static final double EXPLORATION = 0.7;
+    // every node keeps a copy of the game, a couple of MB for a board of a hundred cards
+    private static final int MAX_NODES = 100;
+
+    private final Game game;
+    private final Player player;
+    private final TranspositionTable transpositions;
+    private final SimulationBudget budget;
+    private final int maxDepth;
+    private final int maxPlayouts;
+    private final int threads;
+    private final AtomicInteger playouts = new AtomicInteger();
+
+    // the random numbers of every iteration derive from it, so a search on one thread plays out the same again
+    private long rootSeed;
+    private Node root;
+    private Node winningChild;
+    private int nodes;
+
+    private static final class Node {
+        final Plan.Decision decision;
+        final Game state;
+        final Player player;
+        final Score score;
+        final List<SpellAbility> candidates;
+        // made with the node, the thread creating it is the only one reading its state without the lock
+        final Plan.SpellAbilityRef[] refs;
+        final int depth;
+        // passing priority comes first, then the candidates in order
+        int nextUntried = -1;
+        final List<Node> children = new ArrayList<>();
+        int visits;
+        int virtualLoss;
+        double totalReward;
+
+        Node(Plan.Decision decision, Game state, Player player, Score score, List<SpellAbility> candidates, int depth) {
+            this.decision = decision;
+            this.state = state;
+            this.player = player;
+            this.score = score;
+            this.candidates = candidates;
+            this.depth = depth;
+            if (candidates == null) {
+                refs = null;
+            } else {
+                refs = new Plan.SpellAbilityRef[candidates.size()];
+                for (int i = 0; i < refs.length; i++) {
+                    refs[i] = new Plan.SpellAbilityRef(candidates, i);
+                }
+            }
+        }
+
+        boolean isPass() {
+            return candidates == null;
+        }
+
+        boolean isTerminal() {
+            return isPass() || state.isGameOver();
+        }
+
+        boolean hasUntried() {
+            return !isTerminal() && nextUntried < candidates.size();
+        }
+
+        Node selectChild() {
+            final double logVisits = Math.log(visits + virtualLoss);
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (final Node child : children) {
+                final int n = child.visits + child.virtualLoss;
+                if (n == 0) {
+                    return child;
+                }
+                final double value = child.totalReward / n + EXPLORATION * Math.sqrt(logVisits / n);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        void addVirtualLoss() {
+            virtualLoss++;
+        }
+
+        void update(final double reward) {
+            virtualLoss--;
+            visits++;
+            totalReward += reward;
+        }
+    }
+
+    /**
+     * @param maxDepth how many spells and abilities a sequence holds at most
+     * @param maxPlayouts playouts to run at most, the budget usually ends the search before
+     * @param threads how many AI threads run playouts side by side
+     */
+    public MonteCarloTreeSearch(Game game, Player player, TranspositionTable transpositions, SimulationBudget budget,
+            int maxDepth, int maxPlayouts, int threads) {
+        this.game = game;
+        this.player = player;
+        this.transpositions = transpositions;
+        this.budget = budget;
+        this.maxDepth = maxDepth;
+        this.maxPlayouts = maxPlayouts;
+        this.threads = threads;
+    }
+
+    /**
+     * @return a plan holding the spell or ability to play next with its choices, or null to pass priority
+     */
+    public Plan search(Score origGameScore, List<SpellAbility> candidateSAs) {
+        if (candidateSAs.isEmpty()) {
+            return null;
+        }
+        rootSeed = MyRandom.getRandom().nextLong();
+        root = new Node(null, game, player, origGameScore, candidateSAs, 0);
+
+        final Callable<Void> worker = () -> {
+            // every candidate gets a look, even once the budget is used up, as long as the tree isn't full
+            while (!budget.isCancelled() && !budget.isWinFound() && (mustExpandRoot() || !budget.isExhausted())) {
+                final int iteration = playouts.getAndIncrement();
+                if (iteration >= maxPlayouts) {
+                    break;
+                }
+                runIteration(iteration);
+            }
+            return null;
+        };
+        if (threads > 1) {
+            final List<Future<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(ThreadUtil.submitAiTask(worker));
+            }
+            // the workers copy the original game, so it must not move on before all of them are done
+            budget.awaitWorkers(workers);
+        } else {
+            try {
+                worker.call();
+            } catch (Exception e) {
+                Throwables.throwIfUnchecked(e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        final Node best = chooseRootChild();
+        if (best == null || best.isPass()) {
+            return null;
+        }
+        final ArrayList<Plan.Decision> decisions = new ArrayList<>();
+        decisions.add(best.decision);
+        return new Plan(decisions, best.score);
+    }
+
+    /**
+     * @return the playouts run by the last search
+     */
+    public int getPlayouts() {
+        return Math.min(playouts.get(), maxPlayouts);
+    }
+
+    private synchronized boolean mustExpandRoot() {
+        return root.hasUntried() && nodes < MAX_NODES;
+    }
+
+    private synchronized Node chooseRootChild() {
+        if (winningChild != null) {
+            return winningChild;
+        }
+        Node best = null;
+        for (final Node child : root.children) {
+            if (best == null || child.visits > best.visits
+                    || child.visits == best.visits && child.totalReward > best.totalReward) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private void runIteration(final int iteration) {
+        // drawn up front, whether the iteration expands a node or not
+        final Random random = new Random(GameStateHash.mix(rootSeed + iteration));
+        final long expandSeed = random.nextLong();
+        final long playoutSeed = random.nextLong();
+        final List<Node> path = new ArrayList<>();
+        Node node;
+        int action = Integer.MIN_VALUE;
+        synchronized (this) {
+            node = root;
+            node.addVirtualLoss();
+            path.add(node);
+            while (!node.isTerminal()) {
+                // once the tree is full, playouts only sample the lines already in it some more,
+                // but a candidate with many choices must not keep the others from being looked at
+                if (node.hasUntried() && (node == root || nodes < MAX_NODES)) {
+                    action = node.nextUntried++;
+                    break;
+                }
+                if (node.children.isEmpty()) {
+                    break;
+                }
+                node = node.selectChild();
+                node.addVirtualLoss();
+                path.add(node);
+            }
+        }
+
+        if (action != Integer.MIN_VALUE) {
+            final List<Node> children = expand(node, action, expandSeed);
+            if (!children.isEmpty()) {
+                // the playout goes on from the choices that look best right away, the others get theirs when selected
+                Node best = children.get(0);
+                for (final Node child : children) {
+                    if (child.score.value > best.score.value) {
+                        best = child;
+                    }
+                }
+                synchronized (this) {
+                    node.children.addAll(children);
+                    nodes += children.size();
+                    best.addVirtualLoss();
+                    path.add(best);
+                    if (best.score.value == Integer.MAX_VALUE && winningChild == null) {
+                        winningChild = path.get(1);
+                        budget.setWinFound();
+                    }
+                }
+                node = best;
+            }
+        }
+
+        final double reward = playout(node, playoutSeed);
+        synchronized (this) {
+            for (final Node n : path) {
+                n.update(reward);
+            }
+        }
+    }
+
+    /**
+     * @return a child for every way to play the candidate, or the one for passing priority
+     */
+    private List<Node> expand(final Node node, final int action, final long seed) {
+        final List<Node> children = new ArrayList<>();
+        if (action < 0) {
+            children.add(new Node(null, node.state, node.player, node.score, null, node.depth));
+            return children;
+        }
+
+        final SimulationController controller = new SimulationController(node.score, transpositions, budget, 0);
+        controller.evaluateSpellAbility(node.refs[action]);
+        final SpellAbility sa = node.candidates.get(action);
+
+        // the same seed for every choice, like SpellAbilityPicker, so random effects don't change the choices
+        final Random origRandom = MyRandom.bindToThread(null);
+        final SpellAbilityChoicesIterator choicesIterator = new SpellAbilityChoicesIterator(controller);
+        Score bestScore = new Score(Integer.MIN_VALUE);
+        Score lastScore;
+        try {
+            do {
+                MyRandom.bindToThread(new Random(seed));
+                final GameSimulator simulator = new GameSimulator(controller, node.state, node.player, null, new SeededRandom(seed));
+                simulator.setInterceptor(choicesIterator);
+                lastScore = simulator.simulateSpellAbility(sa);
+                budget.countSimulation();
+                if (lastScore.value != Integer.MIN_VALUE) {
+                    children.add(createChild(node, controller.getLastMergedDecision(), simulator, lastScore));
+                }
+                if (lastScore.value > bestScore.value) {
+                    bestScore = lastScore;
+                }
+            } while (choicesIterator.advance(lastScore));
+        } finally {
+            MyRandom.bindToThread(origRandom);
+        }
+        controller.doneEvaluating(bestScore);
+        return children;
+    }
+
+    private Node createChild(final Node node, final Plan.Decision decision, final GameSimulator simulator, final Score score) {
+        final Game state = simulator.getSimulatedGameState();
+        final Player statePlayer = (Player) simulator.getGameCopier().find(node.player);
+        final List<SpellAbility> candidates;
+        if (node.depth + 1 >= maxDepth || state.isGameOver()) {
+            candidates = Collections.emptyList();
+        } else {
+            candidates = new SpellAbilityPicker(state, statePlayer).getCandidateSpellsAndAbilities();
+        }
+        return new Node(decision, state, statePlayer, score, candidates, node.depth + 1);
+    }
+
+    private double playout(final Node node, final long seed) {
+        if (node.state.isGameOver()) {
+            return reward(node.score);
+        }
+        final GameCopier copier;
+        final Game copy;
+        synchronized (node.state) {
+            copier = new GameCopier(node.state);
+            copier.setRandom(new SeededRandom(seed));
+            copy = copier.makeCopy(null, node.player);
+        }
+        final Player aiPlayer = (Player) copier.find(node.player);
+
+        final Random random = new Random(seed);
+        final Random origRandom = MyRandom.bindToThread(random);
+        try {
+            determinize(copy, aiPlayer, random);
+            copy.getPhaseHandler().devAdvanceToPhase(PLAYOUT_HORIZON, () -> GameSimulator.resolveStack(copy, aiPlayer.getWeakestOpponent()));
+            return reward(new GameStateEvaluator().getScoreForGameState(copy, aiPlayer));
+        } finally {
+            MyRandom.bindToThread(origRandom);
+        }
+    }
+
+    private double reward(final Score score) {
+        if (score.value == Integer.MAX_VALUE) {
+            return 1;
+        }
+        if (score.value == Integer.MIN_VALUE) {
+            return 0;
+        }
+        return 1 / (1 + Math.exp((root.score.value - score.value) / REWARD_SCALE));
+    }
+
+    /**
+     * Shuffles the library of the AI, and deals the opponents new hands from their hands and libraries,
+     * so playouts don't depend on cards the AI can't know.
+     */
+    private static void determinize(final Game game, final Player aiPlayer, final Random random) {
+        final PlayerZone ownLibrary = aiPlayer.getZone(ZoneType.Library);
+        final List<Card> library = new ArrayList<>(ownLibrary.getCards());
+        Collections.shuffle(library, random);
+        ownLibrary.setCards(library);
+
+        for (final Player opponent : aiPlayer.getOpponents()) {
+            final PlayerZone hand = opponent.getZone(ZoneType.Hand);
+            final PlayerZone opponentLibrary = opponent.getZone(ZoneType.Library);
+            final List<Card> unknown = new ArrayList<>(hand.getCards());
+            unknown.addAll(opponentLibrary.getCards());
+            Collections.shuffle(unknown, random);
+            final int handSize = hand.size();
+            hand.setCards(new ArrayList<>(unknown.subList(0, handSize)));
+            opponentLibrary.setCards(new ArrayList<>(unknown.subList(handSize, unknown.size())));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package forge.ai.simulation;
+
+import com.google.common.base.Throwables;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * How much the simulation AI may still search for one decision: a deadline and a number of simulations,
+ * shared by every controller working on it. Once a line wins the game there's nothing left to look for either.
+ */
+public final class SimulationBudget {
+    private final long deadline;
+    private final int maxSimulations;
+    private final AtomicInteger simulations;
+    private final AtomicBoolean winFound = new AtomicBoolean();
+    private final AtomicBoolean cancelled;
+
+    /**
+     * @param timeMillis time to search for, 0 for no limit
+     * @param maxSimulations simulations to run at most, 0 for no limit
+     */
+    public SimulationBudget(long timeMillis, int maxSimulations) {
+        this.deadline = timeMillis > 0 ? System.currentTimeMillis() + timeMillis : Long.MAX_VALUE;
+        this.maxSimulations = maxSimulations > 0 ? maxSimulations : Integer.MAX_VALUE;
+        this.simulations = new AtomicInteger();
+        this.cancelled = new AtomicBoolean();
+    }
+
+    private SimulationBudget(SimulationBudget budget) {
+        this.deadline = budget.deadline;
+        this.maxSimulations = budget.maxSimulations;
+        this.simulations = budget.simulations;
+        this.cancelled = budget.cancelled;
+    }
+
+    /**
+     * @return a budget for another search of the same decision, drawing on what's left of this one
+     * but looking for a win of its own
+     */
+    public SimulationBudget forNextSearch() {
+        return new SimulationBudget(this);
+    }
+
+    public static SimulationBudget unlimited() {
+        return new SimulationBudget(0, 0);
+    }
+
+    public void countSimulation() {
+        simulations.incrementAndGet();
+    }
+
+    public int getSimulations() {
+        return simulations.get();
+    }
+
+    public boolean isExhausted() {
+        return isCancelled() || simulations.get() >= maxSimulations || System.currentTimeMillis() >= deadline;
+    }
+
+    /**
+     * Stops the search of a decision nothing waits for anymore, like one that ran past the AI timeout.
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    /**
+     * @return whether the search was cancelled, or the thread running it was interrupted
+     */
+    public boolean isCancelled() {
+        return cancelled.get() || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Waits for the workers searching side by side. They don't see the interrupts of the waiting thread,
+     * so one of those cancels the search, and the workers are still waited for since they read the original game.
+     */
+    public void awaitWorkers(List<Future<Void>> workers) {
+        boolean interrupted = false;
+        try {
+            for (Future<Void> future : workers) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        cancel();
+                    } catch (ExecutionException e) {
+                        Throwables.throwIfUnchecked(e.getCause());
+                        throw new RuntimeException(e.getCause());
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void setWinFound() {
+        winFound.set(true);
+    }
+
+    public boolean isWinFound() {
+        return winFound.get();
+    }
+}
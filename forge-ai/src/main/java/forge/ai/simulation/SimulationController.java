@@ -1,6 +1,7 @@
 package forge.ai.simulation;
 
 import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
 import forge.game.GameObject;
 import forge.game.card.Card;
 import forge.game.player.Player;
@@ -11,8 +12,8 @@ import java.util.Collections;
 import java.util.List;
 
 public class SimulationController {
-    private static boolean DEBUG = false;
-    private static int MAX_DEPTH = 3;
+    private static final boolean DEBUG = false;
+    public static final int DEFAULT_MAX_DEPTH = 3;
 
     private List<Plan.Decision> currentStack;
     private List<Score> scoreStack;
@@ -21,6 +22,11 @@ public class SimulationController {
     private Score bestScore;
     private List<CachedEffect> effectCache = new ArrayList<>();
     private GameObject[] currentHostAndTarget;
+    private final TranspositionTable transpositions;
+    // shared by the controllers of all root candidates of a decision
+    private final SimulationBudget budget;
+    private final int maxDepth;
+    private boolean depthLimitReached;
 
     private static class CachedEffect {
         final GameObject hostCard;
@@ -39,6 +45,16 @@ public class SimulationController {
     }
 
     public SimulationController(Score score) {
+        this(score, new TranspositionTable(), SimulationBudget.unlimited(), DEFAULT_MAX_DEPTH);
+    }
+
+    public SimulationController(Score score, TranspositionTable transpositions, SimulationBudget budget, int maxDepth) {
+        this.transpositions = transpositions;
+        this.budget = budget;
+        this.maxDepth = maxDepth;
+        if (score.value == Integer.MAX_VALUE) {
+            budget.setWinFound();
+        }
         bestScore = score;
         scoreStack = new ArrayList<>();
         scoreStack.add(score);
@@ -51,7 +67,43 @@ public class SimulationController {
     }
 
     public boolean shouldRecurse() {
-        return bestScore.value != Integer.MAX_VALUE && getRecursionDepth() < MAX_DEPTH;
+        return !budget.isWinFound() && getRecursionDepth() < maxDepth && !budget.isExhausted();
+    }
+
+    /**
+     * Notes a line that doesn't go on since the depth limit is reached, if there's still something to play in it.
+     * Only looked at until the first such line, as that's all a deeper search needs to know.
+     */
+    public void checkDepthLimit(Game game, Player player) {
+        if (!depthLimitReached && getRecursionDepth() >= maxDepth && !game.isGameOver()) {
+            depthLimitReached = new SpellAbilityPicker(game, player).hasCandidates();
+        }
+    }
+
+    public boolean isDepthLimitReached() {
+        return depthLimitReached;
+    }
+
+    public SimulationBudget getBudget() {
+        return budget;
+    }
+
+    public TranspositionTable getTranspositions() {
+        return transpositions;
+    }
+
+    /**
+     * @return the score of the best line already found from that state with as many steps left to search, or null
+     */
+    public Score getSearchedScore(long stateHash) {
+        return transpositions.getSearchedScore(stateHash, maxDepth - getRecursionDepth());
+    }
+
+    public void putSearchedScore(long stateHash, Score score) {
+        // a search cut short didn't look as deep as the depth says
+        if (!budget.isExhausted() && !budget.isWinFound()) {
+            transpositions.putSearchedScore(stateHash, maxDepth - getRecursionDepth(), score);
+        }
     }
 
     public Plan.Decision getLastDecision() {
@@ -66,7 +118,14 @@ public class SimulationController {
     }
 
     public void evaluateSpellAbility(List<SpellAbility> saList, int saIndex) {
-        currentStack.add(new Plan.Decision(getCurrentScore(), getLastDecision(), new Plan.SpellAbilityRef(saList, saIndex)));
+        evaluateSpellAbility(new Plan.SpellAbilityRef(saList, saIndex));
+    }
+
+    /**
+     * For abilities of a game that's searched side by side, whose reference must be made before the search starts.
+     */
+    public void evaluateSpellAbility(Plan.SpellAbilityRef saRef) {
+        currentStack.add(new Plan.Decision(getCurrentScore(), getLastDecision(), saRef));
     }
 
     public void evaluateCardChoice(Card choice) {
@@ -87,6 +146,9 @@ public class SimulationController {
         if (getLastDecision().initialScore.value < score.value && score.value > bestScore.value) {
             bestScore = score;
             bestSequence = getLastDecision();
+            if (score.value == Integer.MAX_VALUE) {
+                budget.setWinFound();
+            }
         }
         currentStack.remove(currentStack.size() - 1);
     }
@@ -131,7 +193,7 @@ public class SimulationController {
         return new Plan(sequence, getBestScore());
     }
 
-    private Plan.Decision getLastMergedDecision() {
+    Plan.Decision getLastMergedDecision() {
         MultiTargetSelector.Targets targets = null;
         List<String> choices = new ArrayList<>();
         int[] modes = null;
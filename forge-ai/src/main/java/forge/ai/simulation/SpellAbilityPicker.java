@@ -1,5 +1,6 @@
 package forge.ai.simulation;
 
+import com.google.common.base.Throwables;
 import forge.ai.*;
 import forge.ai.ability.ChangeZoneAi;
 import forge.ai.ability.LearnAi;
@@ -14,14 +15,23 @@ import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityCondition;
 import forge.game.zone.ZoneType;
 import forge.util.MyRandom;
+import forge.util.SeededRandom;
 import forge.util.TextUtil;
+import forge.util.ThreadUtil;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SpellAbilityPicker {
+    // each root candidate is simulated on game copies of its own, so they can be evaluated side by side
+    public static boolean PARALLEL_ROOT_SEARCH = true;
+    private static final int SEARCH_THREADS = Runtime.getRuntime().availableProcessors();
+
     private Game game;
     private Player player;
     private Score bestScore;
@@ -29,7 +39,11 @@ public class SpellAbilityPicker {
     private SpellAbilityChoicesIterator interceptor;
 
     private Plan plan;
-    private int numSimulations;
+    // whether the last search ended any line at its depth with something left to play
+    private boolean depthLimitReached;
+    // kept across priority passes, the states of a turn often come up again
+    private final TranspositionTable transpositions = new TranspositionTable();
+    private final AtomicInteger numSimulations = new AtomicInteger();
 
     public SpellAbilityPicker(Game game, Player player) {
         this.game = game;
@@ -84,11 +98,15 @@ public class SpellAbilityPicker {
         //printOutput = controller == null;
 
         // Pass if top of stack is owned by me.
-        if (!game.getStack().isEmpty() && game.getStack().peekAbility().getActivatingPlayer().equals(player)) {
+        if (isOwnAbilityOnTop()) {
             return null;
         }
 
-        Score origGameScore = new GameStateEvaluator().getScoreForGameState(game, player);
+        if (controller == null) {
+            transpositions.startTurn(game.getPhaseHandler().getTurn());
+        }
+        TranspositionTable table = controller != null ? controller.getTranspositions() : transpositions;
+        Score origGameScore = table.getScoreForGameState(new GameStateEvaluator(), game, player);
         List<SpellAbility> candidateSAs = getCandidateSpellsAndAbilities();
         if (controller != null) {
             // This is a recursion during a higher-level simulation. Just return the head of the best
@@ -105,13 +123,148 @@ public class SpellAbilityPicker {
         return getPlannedSpellAbility(origGameScore, candidateSAs);
     }
 
-    private Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase) {
-        SimulationController controller = new SimulationController(origGameScore);
-        SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase);
-        if (sa != null) {
-            return controller.getBestPlan();
+    private boolean isOwnAbilityOnTop() {
+        return !game.getStack().isEmpty() && game.getStack().peekAbility().getActivatingPlayer().equals(player);
+    }
+
+    /**
+     * @return whether choosing what to play would look at anything at all
+     */
+    boolean hasCandidates() {
+        return !isOwnAbilityOnTop() && !getCandidateSpellsAndAbilities().isEmpty();
+    }
+
+    /**
+     * Searches one level deeper each iteration, from minDepth up to maxDepth, for as long as the budget lasts, and
+     * returns the best plan of the deepest iteration that finished. One cut short by the budget only replaces it if
+     * the lines it did get to already score better. Once no line was ended by the depth limit with something left
+     * to play, a deeper iteration would find the same plan, so the search stops there.
+     * Each iteration starts with the candidate the one before found best, so it's searched deeper first.
+     */
+    Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase,
+            SimulationBudget budget, int minDepth, int maxDepth) {
+        long startTime = System.currentTimeMillis();
+        int count = candidateSAs.size();
+
+        // draw the seeds once in candidate order, every iteration simulates the choices of a candidate the same way
+        Random random = MyRandom.getRandom();
+        long[] seeds = new long[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = random.nextLong();
+            order[i] = i;
+        }
+
+        Plan bestPlan = null;
+        Score bestPlanScore = origGameScore;
+        for (int depth = minDepth; depth <= maxDepth; depth++) {
+            Plan plan = searchCandidates(origGameScore, candidateSAs, phase, budget, depth, depth > minDepth, seeds, order, startTime);
+            if (depth > minDepth && budget.isExhausted()) {
+                if (plan != null && (bestPlan == null || plan.getFinalScore().value > bestPlan.getFinalScore().value)) {
+                    bestPlan = plan;
+                    bestPlanScore = bestScore;
+                }
+                print("Simulation budget used up at depth " + depth + " after " + budget.getSimulations() + " simulations");
+                break;
+            }
+            bestPlan = plan;
+            bestPlanScore = bestScore;
+            if (budget.isWinFound() || budget.isExhausted() || !depthLimitReached) {
+                break;
+            }
+            if (plan != null) {
+                moveToFront(order, candidateSAs.indexOf(plan.getDecisions().get(0).saRef.findReferencedAbility(candidateSAs)));
+            }
         }
-        return null;
+        this.bestScore = bestPlanScore;
+        return bestPlan;
+    }
+
+    private SimulationBudget createBudget() {
+        long timeMillis = AiProfileUtil.getIntProperty(player, AiProps.SIMULATION_TIME_BUDGET);
+        if (game.canUseTimeout()) {
+            long timeout = game.getAITimeout() * 1000L;
+            timeMillis = timeMillis > 0 ? Math.min(timeMillis, timeout) : timeout;
+        }
+        return new SimulationBudget(timeMillis, AiProfileUtil.getIntProperty(player, AiProps.SIMULATION_MAX_SIMULATIONS));
+    }
+
+    private static void moveToFront(int[] order, int candidate) {
+        if (candidate < 0) {
+            return;
+        }
+        int pos = 0;
+        while (order[pos] != candidate) {
+            pos++;
+        }
+        System.arraycopy(order, 0, order, 1, pos);
+        order[0] = candidate;
+    }
+
+    /**
+     * Evaluates the candidates in the given order with a controller of their own each, on a few AI threads when
+     * there's more than one, and picks the same plan whatever the order: the best sequence found, the one of the
+     * earliest candidate on a tie. Once any candidate wins the game none of them looks deeper, so among several
+     * winning lines another one may be picked. If the search may be cut short, candidates not started before the
+     * budget is used up are left out.
+     */
+    private Plan searchCandidates(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase,
+            SimulationBudget budget, int depth, boolean mayCutShort, long[] seeds, int[] order, long startTime) {
+        int count = candidateSAs.size();
+        Score[] scores = new Score[count];
+        SimulationController[] controllers = new SimulationController[count];
+        // made here, the workers only read the original game while no other one copies it
+        Plan.SpellAbilityRef[] refs = new Plan.SpellAbilityRef[count];
+        for (int i = 0; i < count; i++) {
+            refs[i] = new Plan.SpellAbilityRef(candidateSAs, i);
+        }
+        AtomicInteger nextCandidate = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            for (int k = nextCandidate.getAndIncrement(); k < count; k = nextCandidate.getAndIncrement()) {
+                if (budget.isCancelled() || mayCutShort && budget.isExhausted()) {
+                    break;
+                }
+                int i = order[k];
+                SimulationController controller = new SimulationController(origGameScore, transpositions, budget, depth);
+                scores[i] = evaluateSa(controller, phase, candidateSAs.get(i), refs[i], seeds[i]);
+                controllers[i] = controller;
+            }
+            return null;
+        };
+
+        print("Evaluating " + count + " candidates to depth " + depth + "... (orig score = " + origGameScore +  ")");
+        if (PARALLEL_ROOT_SEARCH && SEARCH_THREADS > 1 && count > 1) {
+            List<Future<Void>> workers = new ArrayList<>();
+            for (int i = Math.min(count, SEARCH_THREADS); i > 0; i--) {
+                workers.add(ThreadUtil.submitAiTask(worker));
+            }
+            // the workers copy the original game, so it must not move on before all of them are done
+            budget.awaitWorkers(workers);
+        } else {
+            try {
+                worker.call();
+            } catch (Exception e) {
+                Throwables.throwIfUnchecked(e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        depthLimitReached = false;
+        for (SimulationController controller : controllers) {
+            if (controller != null && controller.isDepthLimitReached()) {
+                depthLimitReached = true;
+            }
+        }
+        if (chooseBestSpellAbility(candidateSAs, scores, origGameScore, startTime) == null) {
+            return null;
+        }
+        SimulationController best = null;
+        for (SimulationController controller : controllers) {
+            if (controller != null && (best == null || controller.getBestScore().value > best.getBestScore().value)) {
+                best = controller;
+            }
+        }
+        return best.getBestPlan();
     }
 
     private void printPlan(Plan plan, String intro) {
@@ -127,8 +280,23 @@ public class SpellAbilityPicker {
 
     private void createNewPlan(Score origGameScore, List<SpellAbility> candidateSAs) {
         plan = null;
+        // both the plan for now and the one for after blockers are found within it
+        SimulationBudget budget = createBudget();
+        int maxDepth = AiProfileUtil.getIntProperty(player, AiProps.SIMULATION_MAX_DEPTH);
+
+        if (AiProfileUtil.getBoolProperty(player, AiProps.SIMULATION_USE_MCTS)) {
+            int threads = PARALLEL_ROOT_SEARCH ? SEARCH_THREADS : 1;
+            MonteCarloTreeSearch search = new MonteCarloTreeSearch(game, player, transpositions, budget, maxDepth,
+                    AiProfileUtil.getIntProperty(player, AiProps.SIMULATION_MCTS_MAX_PLAYOUTS), threads);
+            plan = search.search(origGameScore, candidateSAs);
+            print("Monte Carlo tree search ran " + search.getPlayouts() + " playouts");
+            if (plan != null) {
+                printPlan(plan, "Most visited");
+            }
+            return;
+        }
 
-        Plan bestPlan = formulatePlanWithPhase(origGameScore, candidateSAs, null);
+        Plan bestPlan = formulatePlanWithPhase(origGameScore, candidateSAs, null, budget, 0, maxDepth);
         if (bestPlan == null) {
             print("No good plan at this time");
             return;
@@ -149,7 +317,8 @@ public class SpellAbilityPicker {
                 if (printOutput) {
                     System.err.println("Formula plan with phase bloom");
                 }
-                Plan afterBlockersPlan = formulatePlanWithPhase(origGameScore, candidateSAs2, PhaseType.COMBAT_DECLARE_BLOCKERS);
+                Plan afterBlockersPlan = formulatePlanWithPhase(origGameScore, candidateSAs2, PhaseType.COMBAT_DECLARE_BLOCKERS,
+                        budget.forNextSearch(), 0, maxDepth);
                 if (afterBlockersPlan != null && afterBlockersPlan.getFinalScore().value >= bestPlan.getFinalScore().value) {
                     printPlan(afterBlockersPlan, "After blockers");
                     print("Deciding to wait until after declare blockers.");
@@ -165,13 +334,27 @@ public class SpellAbilityPicker {
     private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs, Score origGameScore, PhaseType phase) {
         long startTime = System.currentTimeMillis();
 
+        Score[] scores = new Score[candidateSAs.size()];
+        print("Evaluating... (orig score = " + origGameScore +  ")");
+        for (int i = 0; i < candidateSAs.size(); i++) {
+            if (controller.getBudget().isCancelled()) {
+                break;
+            }
+            scores[i] = evaluateSa(controller, phase, candidateSAs, i);
+        }
+        return chooseBestSpellAbility(candidateSAs, scores, origGameScore, startTime);
+    }
+
+    private SpellAbility chooseBestSpellAbility(List<SpellAbility> candidateSAs, Score[] scores, Score origGameScore, long startTime) {
         SpellAbility bestSa = null;
         Score bestSaValue = origGameScore;
-        print("Evaluating... (orig score = " + origGameScore +  ")");
         for (int i = 0; i < candidateSAs.size(); i++) {
-            Score value = evaluateSa(controller, phase, candidateSAs, i);
-            if (value.value > bestSaValue.value) {
-                bestSaValue = value;
+            // not evaluated in time
+            if (scores[i] == null) {
+                continue;
+            }
+            if (scores[i].value > bestSaValue.value) {
+                bestSaValue = scores[i];
                 bestSa = candidateSAs.get(i);
             }
         }
@@ -339,33 +522,39 @@ public class SpellAbilityPicker {
     }
 
     public Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex) {
-        controller.evaluateSpellAbility(saList, saIndex);
-        SpellAbility sa = saList.get(saIndex);
+        return evaluateSa(controller, phase, saList.get(saIndex), new Plan.SpellAbilityRef(saList, saIndex), MyRandom.getRandom().nextLong());
+    }
+    private Score evaluateSa(final SimulationController controller, PhaseType phase, SpellAbility sa, Plan.SpellAbilityRef saRef, long randomSeedToUse) {
+        controller.evaluateSpellAbility(saRef);
 
         // Use a deterministic random seed when evaluating different choices of a spell ability.
         // This is needed as otherwise random effects may result in a different number of choices
         // each iteration, which will break the logic in SpellAbilityChoicesIterator.
-        Random origRandom = MyRandom.getRandom();
-        long randomSeedToUse = origRandom.nextLong();
+        // The random is bound to the thread, so simulations running side by side don't share it,
+        // and the game the choices are simulated on draws from the same seed.
+        Random origRandom = MyRandom.bindToThread(null);
 
         Score bestScore = new Score(Integer.MIN_VALUE);
         final SpellAbilityChoicesIterator choicesIterator = new SpellAbilityChoicesIterator(controller);
         Score lastScore;
-        do {
-            // TODO: MyRandom should be an instance on the game object, so that we could do
-            // simulations in parallel without messing up global state.
-            MyRandom.setRandom(new Random(randomSeedToUse));
-            GameSimulator simulator = new GameSimulator(controller, game, player, phase);
-            simulator.setInterceptor(choicesIterator);
-            // I feel like something here is making a wrong assumption about what the target is
-            lastScore = simulator.simulateSpellAbility(sa);
-            numSimulations++;
-            if (lastScore.value > bestScore.value) {
-                bestScore = lastScore;
-            }
-        } while (choicesIterator.advance(lastScore));
+        try {
+            do {
+                MyRandom.bindToThread(new Random(randomSeedToUse));
+                GameSimulator simulator = new GameSimulator(controller, game, player, phase, new SeededRandom(randomSeedToUse));
+                simulator.setInterceptor(choicesIterator);
+                simulator.setDisposable(true);
+                // I feel like something here is making a wrong assumption about what the target is
+                lastScore = simulator.simulateSpellAbility(sa);
+                numSimulations.incrementAndGet();
+                controller.getBudget().countSimulation();
+                if (lastScore.value > bestScore.value) {
+                    bestScore = lastScore;
+                }
+            } while (choicesIterator.advance(lastScore));
+        } finally {
+            MyRandom.bindToThread(origRandom);
+        }
         controller.doneEvaluating(bestScore);
-        MyRandom.setRandom(origRandom);
         return bestScore;
     }
 
@@ -443,6 +632,6 @@ public class SpellAbilityPicker {
     }
 
     public int getNumSimulations() {
-        return numSimulations;
+        return numSimulations.get();
     }
 }
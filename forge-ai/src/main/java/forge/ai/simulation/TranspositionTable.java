@@ -0,0 +1,78 @@
+package forge.ai.simulation;
+
+import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
+import forge.game.player.Player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scores of game states the simulation AI already looked at, keyed by their {@link GameStateHash}, so the same
+ * state reached through another order of spells, in a sibling branch or on the next priority pass, isn't
+ * evaluated or searched again.
+ * <p>
+ * Next to the plain evaluation of a state it keeps the score of the best line found from it, per number of
+ * steps that were left to search. Shared by the root candidates evaluated side by side.
+ */
+public final class TranspositionTable {
+    // one turn of a board with many options stays well below this, it only keeps the table from growing unchecked
+    private static final int MAX_ENTRIES = 100000;
+
+    private final Map<Long, Score> evaluated = new ConcurrentHashMap<>();
+    private final Map<SearchKey, Score> searched = new ConcurrentHashMap<>();
+    private int turn = -1;
+
+    // a deeper search of a state is worth more than a shallow one, so both make up the key
+    private record SearchKey(long stateHash, int stepsLeft) {}
+
+    /**
+     * Forgets the states of earlier turns, nothing seen in them comes back.
+     */
+    public void startTurn(final int turn) {
+        if (this.turn != turn) {
+            this.turn = turn;
+            evaluated.clear();
+            searched.clear();
+        }
+    }
+
+    public Score getScoreForGameState(final GameStateEvaluator eval, final Game game, final Player aiPlayer) {
+        return getScoreForGameState(eval, game, aiPlayer, GameStateHash.of(game, aiPlayer), false);
+    }
+
+    /**
+     * @param disposable whether the game is thrown away afterwards, see {@link GameStateEvaluator#getScoreForGameState(Game, Player, boolean)}
+     */
+    public Score getScoreForGameState(final GameStateEvaluator eval, final Game game, final Player aiPlayer, final long stateHash, final boolean disposable) {
+        // the debug output lists how the score adds up, which a stored score can't tell
+        if (GameSimulator.isDebugPrint()) {
+            return eval.getScoreForGameState(game, aiPlayer, disposable);
+        }
+        final Score cached = evaluated.get(stateHash);
+        if (cached != null) {
+            return cached;
+        }
+        final Score score = eval.getScoreForGameState(game, aiPlayer, disposable);
+        put(evaluated, stateHash, score);
+        return score;
+    }
+
+    /**
+     * @return the score of the best line found from the state with that many steps left, or null if it wasn't searched yet
+     */
+    public Score getSearchedScore(final long stateHash, final int stepsLeft) {
+        return searched.get(new SearchKey(stateHash, stepsLeft));
+    }
+
+    public void putSearchedScore(final long stateHash, final int stepsLeft, final Score score) {
+        put(searched, new SearchKey(stateHash, stepsLeft), score);
+    }
+
+    private static <K> void put(final Map<K, Score> scores, final K key, final Score score) {
+        if (scores.size() >= MAX_ENTRIES) {
+            scores.clear();
+        }
+        scores.put(key, score);
+    }
+}
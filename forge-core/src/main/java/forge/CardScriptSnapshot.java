@@ -0,0 +1,130 @@
+package forge;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single binary file with the already read lines of every card script of a card folder,
+ * so a start doesn't have to open tens of thousands of small files or zip entries again.
+ * <p>
+ * The snapshot is tagged with a fingerprint of the script files (path, size and modification time)
+ * and of the cards archive, and a snapshot with another fingerprint is ignored and rewritten.
+ */
+final class CardScriptSnapshot {
+    private static final int MAGIC = 0x46434453; // FCDS
+    // 2: strings as their length and UTF-8 bytes, script lines may be longer than writeUTF allows
+    private static final int VERSION = 2;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Lines of one card script, as {@link CardStorageReader} read them, and where they came from. */
+    record Script(String path, String name, List<String> lines) { }
+
+    private CardScriptSnapshot() { }
+
+    static long fingerprint(final List<File> files, final File zipFile) {
+        long hash = VERSION;
+        for (final File file : files) {
+            hash = 31 * hash + file.getPath().hashCode();
+            hash = 31 * hash + file.length();
+            hash = 31 * hash + file.lastModified();
+        }
+        if (zipFile != null && zipFile.exists()) {
+            hash = 31 * hash + zipFile.length();
+            hash = 31 * hash + zipFile.lastModified();
+        }
+        return hash;
+    }
+
+    /**
+     * @return the scripts of the snapshot, or null if there is none with that fingerprint or it can't be read
+     */
+    static List<Script> read(final File snapshot, final long fingerprint) {
+        if (!snapshot.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot.toPath()), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fingerprint) {
+                return null;
+            }
+            final long limit = snapshot.length();
+            final int count = readCount(in, limit);
+            final List<Script> scripts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final String path = readString(in, limit);
+                final String name = readString(in, limit);
+                final int lineCount = readCount(in, limit);
+                final List<String> lines = new ArrayList<>(lineCount);
+                for (int j = 0; j < lineCount; j++) {
+                    lines.add(readString(in, limit));
+                }
+                scripts.add(new Script(path, name, lines));
+            }
+            return scripts;
+        } catch (final IOException e) {
+            System.err.printf("Ignoring unreadable card snapshot \"%s\": %s%n", snapshot.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot next to its final place first, so an interrupted write never leaves a broken one behind.
+     * Failing to write it only costs the next start its speed up.
+     */
+    static void write(final File snapshot, final long fingerprint, final List<Script> scripts) {
+        final File parent = snapshot.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            return;
+        }
+        final File temp = new File(parent, snapshot.getName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath()), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint);
+                out.writeInt(scripts.size());
+                for (final Script script : scripts) {
+                    writeString(out, script.path());
+                    writeString(out, script.name());
+                    out.writeInt(script.lines().size());
+                    for (final String line : script.lines()) {
+                        writeString(out, line);
+                    }
+                }
+            }
+            Files.move(temp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            System.err.printf("Could not write card snapshot \"%s\": %s%n", snapshot.getAbsolutePath(), e);
+            temp.delete();
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in, final long limit) throws IOException {
+        final byte[] bytes = new byte[readCount(in, limit)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // nothing in the file counts more than its bytes, a broken one mustn't make us allocate whatever it says
+    private static int readCount(final DataInputStream in, final long limit) throws IOException {
+        final int count = in.readInt();
+        if (count < 0 || count > limit) {
+            throw new IOException("Corrupt count " + count);
+        }
+        return count;
+    }
+}
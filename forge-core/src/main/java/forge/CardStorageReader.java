@@ -67,19 +67,30 @@ public class CardStorageReader {
     private final boolean loadingTokens;
     private transient File cardsfolder;
 
+    private transient File zipFile;
     private transient ZipFile zip;
     private transient Map<String, ZipEntry> zipEntriesMap;
     private final transient Charset charset;
 
     private final boolean loadCardsLazily;
+    private final File snapshotFile;
 
     public CardStorageReader(final String cardDataDir, final CardStorageReader.ProgressObserver progressObserver, boolean loadCardsLazily) {
+        this(cardDataDir, progressObserver, loadCardsLazily, null);
+    }
+
+    /**
+     * @param snapshotFile where to keep a snapshot of all read card scripts for the next start, or null to always read
+     *            the script files, see {@link CardScriptSnapshot}
+     */
+    public CardStorageReader(final String cardDataDir, final CardStorageReader.ProgressObserver progressObserver, boolean loadCardsLazily, final File snapshotFile) {
         this.progressObserver = progressObserver != null ? progressObserver : CardStorageReader.ProgressObserver.emptyObserver;
         this.cardsfolder = new File(cardDataDir);
 
         this.loadingTokens = cardDataDir.contains("token");
 
         this.loadCardsLazily = loadCardsLazily;
+        this.snapshotFile = snapshotFile;
 
         // These read data for lightweight classes.
         if (!cardsfolder.exists()) {
@@ -90,7 +101,7 @@ public class CardStorageReader {
             throw new RuntimeException("CardReader : constructor error -- not a directory -- " + cardsfolder.getAbsolutePath());
         }
 
-        final File zipFile = new File(cardsfolder, "cardsfolder.zip");
+        zipFile = new File(cardsfolder, "cardsfolder.zip");
 
         if (zipFile.exists()) {
             try {
@@ -201,6 +212,11 @@ public class CardStorageReader {
         return file;
     }
 
+    /** Whether {@link #loadCards()} leaves all cards to {@link #attemptToLoadCard(String)}. */
+    public final boolean isLoadingCardsLazily() {
+        return loadCardsLazily;
+    }
+
     public final CardRules attemptToLoadCard(String cardName) {
         String transformedName = transformName(cardName);
         CardRules rules = null;
@@ -240,6 +256,10 @@ public class CardStorageReader {
         }
  
         final List<File> allFiles = collectCardFiles(new ArrayList<>(), this.cardsfolder);
+        if (snapshotFile != null) {
+            loadCardsFromSnapshot(result, allFiles);
+            return result;
+        }
         if (!allFiles.isEmpty()) {
             int fileParts = zip == null ? NUMBER_OF_PARTS : 1 + NUMBER_OF_PARTS / 3;
             if (allFiles.size() < fileParts * 100) {
@@ -274,6 +294,68 @@ public class CardStorageReader {
         return result;
     }
 
+    private void loadCardsFromSnapshot(final Collection<CardRules> result, final List<File> allFiles) {
+        final Localizer localizer = Localizer.getInstance();
+        final StopWatch sw = new StopWatch();
+        sw.start();
+        final long fingerprint = CardScriptSnapshot.fingerprint(allFiles, this.zip == null ? null : zipFile);
+        List<CardScriptSnapshot.Script> scripts = CardScriptSnapshot.read(snapshotFile, fingerprint);
+        if (scripts == null) {
+            progressObserver.setOperationName(localizer.getMessage("splash.loading.cards-folders"), true);
+            scripts = new ArrayList<>(allFiles.size());
+            for (final File file : allFiles) {
+                scripts.add(readScript(file));
+            }
+            if (this.zip != null) {
+                for (final ZipEntry entry : getZipEntries()) {
+                    scripts.add(readScript(entry));
+                }
+            }
+            CardScriptSnapshot.write(snapshotFile, fingerprint, scripts);
+        }
+        if (scripts.isEmpty()) {
+            return;
+        }
+
+        int parts = NUMBER_OF_PARTS;
+        if (scripts.size() < parts * 100) {
+            parts = Math.max(1, scripts.size() / 100);
+        }
+        final CountDownLatch cdl = new CountDownLatch(parts);
+        final List<Callable<List<CardRules>>> tasks = makeTaskListForScripts(scripts, cdl);
+        progressObserver.setOperationName(localizer.getMessage("splash.loading.cards-folders"), true);
+        progressObserver.report(0, tasks.size());
+        executeLoadTask(result, tasks, cdl);
+        sw.stop();
+        System.out.printf("Read cards: %s scripts in %d ms (%d parts) %s%n", scripts.size(), sw.getTime(TimeUnit.MILLISECONDS), tasks.size(), useThreadPool ? "using thread pool" : "in same thread");
+    }
+
+    private List<Callable<List<CardRules>>> makeTaskListForScripts(final List<CardScriptSnapshot.Script> scripts, final CountDownLatch cdl) {
+        final int total = scripts.size();
+        final int maxParts = (int) cdl.getCount();
+        final int perPart = total / maxParts;
+        final List<Callable<List<CardRules>>> tasks = new ArrayList<>();
+        for (int iPart = 0; iPart < maxParts; iPart++) {
+            final int from = iPart * perPart;
+            final int till = iPart == maxParts - 1 ? total : from + perPart;
+            tasks.add(() -> {
+                try {
+                    final CardRules.Reader rulesReader = new CardRules.Reader();
+                    final List<CardRules> res = new ArrayList<>();
+                    for (int i = from; i < till; i++) {
+                        res.add(loadCard(rulesReader, scripts.get(i)));
+                    }
+                    return res;
+                } finally {
+                    // make sure to continue loading when using multiple threads
+                    cdl.countDown();
+                    progressObserver.report(maxParts - (int)cdl.getCount(), maxParts);
+                }
+            });
+        }
+        return tasks;
+    }
+
     private List<ZipEntry> getZipEntries() {
         ZipEntry entry;
         final List<ZipEntry> entries = new ArrayList<>();
@@ -382,6 +464,33 @@ public class CardStorageReader {
         return FileUtil.readAllLines(new InputStreamReader(inputStream, this.charset), true);
     }
 
+    private CardScriptSnapshot.Script readScript(final File file) {
+        try (InputStream fileInputStream = java.nio.file.Files.newInputStream(file.toPath())) {
+            return new CardScriptSnapshot.Script(file.getPath(), Files.getNameWithoutExtension(file.getName()), readScript(fileInputStream));
+        } catch (final IOException ex) {
+            throw new RuntimeException("CardReader : run error -- cannot read: " + file.getPath(), ex);
+        }
+    }
+
+    private CardScriptSnapshot.Script readScript(final ZipEntry entry) {
+        try (InputStream zipInputStream = this.zip.getInputStream(entry)) {
+            return new CardScriptSnapshot.Script(entry.getName(), Files.getNameWithoutExtension(entry.getName()), readScript(zipInputStream));
+        } catch (final IOException exn) {
+            throw new RuntimeException(exn);
+        }
+    }
+
+    private CardRules loadCard(final CardRules.Reader reader, final CardScriptSnapshot.Script script) {
+        try {
+            reader.reset();
+            CardRules rules = reader.readCard(script.lines(), script.name());
+            rules.setPath(script.path());
+            return rules;
+        } catch (final Exception ex) {
+            throw new RuntimeException("Error loading cardscript " + script.path() + ". Please close Forge and resolve this.", ex);
+        }
+    }
+
     /**
      * Load a card from a txt file.
      *
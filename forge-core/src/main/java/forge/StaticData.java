@@ -3,6 +3,7 @@ package forge;
 import forge.card.CardDb;
 import forge.card.CardEdition;
 import forge.card.CardRules;
+import forge.card.ICardFace;
 import forge.card.PrintSheet;
 import forge.item.*;
 import forge.token.TokenDb;
@@ -11,6 +12,7 @@ import forge.util.ImageUtil;
 import forge.util.TextUtil;
 import forge.util.storage.IStorage;
 import forge.util.storage.StorageBase;
+import com.google.common.collect.Iterables;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.File;
@@ -18,6 +20,7 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -233,15 +236,91 @@ public class StaticData {
     public void attemptToLoadCard(String cardName) {
         this.attemptToLoadCard(cardName, null);
     }
-    public void attemptToLoadCard(String cardName, String setCode) {
+    public synchronized void attemptToLoadCard(String cardName, String setCode) {
         CardRules rules = cardReader.attemptToLoadCard(cardName);
         if (rules != null) {
-            if (rules.isVariant()) {
-                variantCards.loadCard(cardName, setCode, rules);
-            } else {
-                commonCards.loadCard(cardName, setCode, rules);
+            loadCard(cardName, setCode, rules);
+        }
+    }
+
+    private void loadCard(String cardName, String setCode, CardRules rules) {
+        if (rules.isVariant()) {
+            variantCards.loadCard(cardName, setCode, rules);
+        } else {
+            commonCards.loadCard(cardName, setCode, rules);
+        }
+        if (cardReader.isLoadingCardsLazily()) {
+            // games look the cards a card refers to up by name, they must be there before any game starts
+            loadRelatedCards(rules);
+        }
+    }
+
+    // a Name$ holds one name as it is, Names$ and Spellbook$ list them with a ';' for a comma of the name,
+    // and a named property also has a '_' for each space, so it ends at a comma or the math of a count;
+    // the property always follows another one or a type, which keeps out "named" in descriptions
+    private static final Pattern RELATED_CARD_NAMES = Pattern.compile("\\b(Name|Names|Spellbook)\\$\\s*([^|]+)|(?<=[.+!])named([^|+>,/]+)");
+
+    private void loadRelatedCards(CardRules rules) {
+        for (String name : relatedCardNames(rules)) {
+            if (name.isEmpty() || commonCards.contains(name) || variantCards.contains(name)) {
+                continue;
+            }
+            CardRules related = cardReader.attemptToLoadCard(name);
+            // the reader also takes a card whose file name merely starts like the name
+            if (related != null && isNamed(related, name)) {
+                loadCard(name, null, related);
+            }
+        }
+    }
+
+    /**
+     * @return the names of the cards the script of a card refers to, decoded the way the game reads them
+     */
+    static Set<String> relatedCardNames(CardRules rules) {
+        Set<String> names = new HashSet<>();
+        if (!rules.getMeldWith().isEmpty()) {
+            names.add(rules.getMeldWith());
+        }
+        for (ICardFace face : rules.getAllFaces()) {
+            if (face == null) {
+                continue;
+            }
+            List<String> lines = new ArrayList<>();
+            Iterables.addAll(lines, face.getKeywords());
+            Iterables.addAll(lines, face.getAbilities());
+            Iterables.addAll(lines, face.getTriggers());
+            Iterables.addAll(lines, face.getStaticAbilities());
+            Iterables.addAll(lines, face.getReplacements());
+            for (Map.Entry<String, String> svar : face.getVariables()) {
+                lines.add(svar.getValue());
+            }
+            for (String line : lines) {
+                Matcher m = RELATED_CARD_NAMES.matcher(line);
+                while (m.find()) {
+                    if (m.group(3) != null) {
+                        // like CardProperty reads it
+                        String name = TextUtil.fastReplace(m.group(3), ";", ",");
+                        names.add(TextUtil.fastReplace(name, "_", " ").trim());
+                    } else if (m.group(1).equals("Name")) {
+                        names.add(m.group(2).trim());
+                    } else {
+                        for (String name : m.group(2).split(",")) {
+                            names.add(TextUtil.fastReplace(name, ";", ",").trim());
+                        }
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    private static boolean isNamed(CardRules rules, String name) {
+        for (ICardFace face : rules.getAllFaces()) {
+            if (face != null && face.getName().equalsIgnoreCase(name)) {
+                return true;
             }
         }
+        return rules.getName().equalsIgnoreCase(name);
     }
 
     /**
@@ -43,11 +43,12 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
     public static final String FlagSeparator = "\t";
 
     // need this to obtain cardReference by name+set+artindex
-    private final ListMultimap<String, PaperCard> allCardsByName = Multimaps.newListMultimap(new TreeMap<>(String.CASE_INSENSITIVE_ORDER), Lists::newArrayList);
-    private final Map<String, PaperCard> uniqueCardsByName = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
+    // names are looked up all the time, so these are hashed on the case folded name but still iterate sorted
+    private final ListMultimap<String, PaperCard> allCardsByName = Multimaps.newListMultimap(new CardNameMap<>(), Lists::newArrayList);
+    private final Map<String, PaperCard> uniqueCardsByName = new CardNameMap<>();
     private final Map<String, CardRules> rulesByName;
-    private final Map<String, ICardFace> facesByName = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
-    private final Map<String, String> normalizedNames = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, ICardFace> facesByName = new CardNameMap<>();
+    private final Map<String, String> normalizedNames = new CardNameMap<>();
     private static Map<String, String> artPrefs = Maps.newHashMap();
     /**
      * Map of flavor names to the identifier of the functional variant on which they appear in their respective card rules.
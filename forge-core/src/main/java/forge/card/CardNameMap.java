@@ -0,0 +1,117 @@
+package forge.card;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.collect.ForwardingMap;
+
+/**
+ * Map from card names to values that ignores case like {@link String#CASE_INSENSITIVE_ORDER}
+ * and still iterates in that order, but looks names up in a hash index instead of comparing
+ * its way down a tree.
+ * <p>
+ * Names are almost always asked for exactly as they were stored, so those are found without folding them first.
+ * Only changes through the map itself are indexed, so its views are read-only.
+ */
+final class CardNameMap<V> extends ForwardingMap<String, V> {
+    private final TreeMap<String, V> sorted = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, V> exact = new HashMap<>();
+    private final Map<String, V> index = new HashMap<>();
+    private final Map<String, V> readOnly = Collections.unmodifiableMap(sorted);
+
+    /**
+     * @return the name with each character folded the way {@link String#CASE_INSENSITIVE_ORDER} compares it,
+     * or the name itself if nothing changes
+     */
+    static String fold(final String name) {
+        final int length = name.length();
+        for (int i = 0; i < length; i++) {
+            final char c = name.charAt(i);
+            if (foldChar(c) != c) {
+                final char[] chars = name.toCharArray();
+                for (int j = i; j < length; j++) {
+                    chars[j] = foldChar(chars[j]);
+                }
+                return new String(chars);
+            }
+        }
+        return name;
+    }
+
+    private static char foldChar(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @Override
+    protected Map<String, V> delegate() {
+        return sorted;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return readOnly.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return readOnly.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return readOnly.entrySet();
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        final V value = exact.get(name);
+        return value != null ? value : index.get(fold(name));
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String name && (exact.containsKey(name) || index.containsKey(fold(name)));
+    }
+
+    @Override
+    public V put(final String key, final V value) {
+        // the tree keeps the first spelling of a name, and so does the exact index
+        final String stored = sorted.containsKey(key) ? sorted.ceilingKey(key) : key;
+        exact.put(stored, value);
+        index.put(fold(key), value);
+        return sorted.put(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends V> map) {
+        for (final Map.Entry<? extends String, ? extends V> e : map.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        if (sorted.containsKey(name)) {
+            exact.remove(sorted.ceilingKey(name));
+        }
+        index.remove(fold(name));
+        return sorted.remove(name);
+    }
+
+    @Override
+    public void clear() {
+        exact.clear();
+        index.clear();
+        sorted.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package forge.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache of values computed once per key, for keys that keep coming back like the strings of card
+ * scripts. The limit only guards against generated keys piling up: once it's reached the cache simply starts over,
+ * which keeps a lookup as cheap as a plain map lookup.
+ */
+public final class BoundedCache<K, V> {
+    private final int maxSize;
+    private final Function<? super K, ? extends V> compute;
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+
+    public BoundedCache(final int maxSize, final Function<? super K, ? extends V> compute) {
+        this.maxSize = maxSize;
+        this.compute = compute;
+    }
+
+    public V get(final K key) {
+        final V cached = values.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (values.size() >= maxSize) {
+            values.clear();
+        }
+        return values.computeIfAbsent(key, compute);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -17,13 +17,12 @@
  */
 package forge.util;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
 import org.apache.commons.lang3.StringUtils;
 
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -48,17 +47,21 @@ public class FileSection {
     public static final Pattern COLON_KV_SEPARATOR = Pattern.compile(Pattern.quote(":"));
     private static final String BAR_PAIR_SPLITTER = Pattern.quote("|");
 
-    private static final Table<String, Pattern, Map<String, String>> parseToMapCache = HashBasedTable.create();
+    // shared by all games of the JVM, which may run on several threads at once
+    private static final Map<Pattern, Map<String, Map<String, String>>> parseToMapCache = new ConcurrentHashMap<>();
 
     /**
      * Parses the key=value text line and return a HashMap
+     * <p>
+     * The result is cached per line and must not be modified, copy it before making changes.
      *
      * @param line the text line to parse
      * @param kvSeparator the key/value separator
      * @return a HashMap
      */
     public static Map<String, String> parseToMap(final String line, final Pattern kvSeparator) {
-        Map<String, String> cached = parseToMapCache.get(line, kvSeparator);
+        final Map<String, Map<String, String>> cache = parseToMapCache.computeIfAbsent(kvSeparator, k -> new ConcurrentHashMap<>());
+        Map<String, String> cached = cache.get(line);
         if (cached != null) {
             return cached;
         }
@@ -67,12 +70,13 @@ public class FileSection {
         if (!StringUtils.isEmpty(line)) {
             for (final String dd : line.split(BAR_PAIR_SPLITTER)) {
                 final String[] v = kvSeparator.split(dd, 2);
-                result.put(v[0].trim(), v.length > 1 ? v[1].trim() : "");
+                // the few distinct keys are repeated in nearly every line
+                result.put(v[0].trim().intern(), v.length > 1 ? v[1].trim() : "");
             }
         }
         cached = Collections.unmodifiableMap(result);
-        parseToMapCache.put(line, kvSeparator, cached);
-        return cached;
+        final Map<String, String> raced = cache.putIfAbsent(line, cached);
+        return raced == null ? cached : raced;
     }
 
     /**
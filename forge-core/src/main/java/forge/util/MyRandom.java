@@ -31,7 +31,10 @@ import java.util.Random;
  */
 public class MyRandom {
     /** Constant <code>random</code>. */
-    private static Random random = new SecureRandom();
+    private static volatile Random random = new SecureRandom();
+
+    /** Random of the game being played on the current thread, see {@link #bindToThread(Random)}. */
+    private static final ThreadLocal<Random> threadRandom = new ThreadLocal<>();
 
     /**
      * <p>
@@ -52,7 +55,24 @@ public class MyRandom {
      * @return the random
      */
     public static Random getRandom() {
-        return MyRandom.random;
+        final Random bound = threadRandom.get();
+        return bound != null ? bound : MyRandom.random;
+    }
+
+    /**
+     * Makes {@link #getRandom()} return the given random on the current thread,
+     * so code without access to the game still draws from that game's seeded generator.
+     * @param gameRandom the random to use, or null to fall back to the shared one
+     * @return the random previously bound to the current thread, so nested games can restore it
+     */
+    public static Random bindToThread(Random gameRandom) {
+        final Random previous = threadRandom.get();
+        if (gameRandom == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(gameRandom);
+        }
+        return previous;
     }
 
     /**
@@ -67,7 +87,7 @@ public class MyRandom {
         int[] groups = new int[numGroups];
         
         for (int i = 0; i < value; i++) {
-            groups[random.nextInt(numGroups)]++;
+            groups[getRandom().nextInt(numGroups)]++;
         }
 
         return groups;
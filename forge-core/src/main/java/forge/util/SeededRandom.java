@@ -0,0 +1,89 @@
+package forge.util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * A {@link Random} backed by a {@link SplittableRandom}, so it can be handed to every API expecting a
+ * {@code Random} (shuffles, {@link Aggregates}) while staying fast and reproducible from its seed.
+ * <p>
+ * Instances are meant to be owned by a single game and are not safe for concurrent use.
+ * Use {@link #split()} to derive an independent stream, e.g. for a subgame, and {@link #splitForCopy()}
+ * for a simulated copy of the game.
+ */
+public class SeededRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    private final long seed;
+    private final SplittableRandom rng;
+    // split off once up front, so copying the game doesn't change what it draws next
+    private final SplittableRandom copies;
+
+    public SeededRandom(final long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private SeededRandom(final long seed, final SplittableRandom rng) {
+        super(0); // the inherited generator state is never used
+        this.seed = seed;
+        this.rng = rng;
+        this.copies = rng.split();
+    }
+
+    /**
+     * @return the seed this generator was created from, 0 for derived streams
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public SeededRandom split() {
+        return new SeededRandom(0, rng.split());
+    }
+
+    /**
+     * Derives an independent stream for a copy of the game without advancing this one,
+     * so the same seed still plays out the same however many copies the AI makes.
+     */
+    public SeededRandom splitForCopy() {
+        return new SeededRandom(0, copies.split());
+    }
+
+    @Override
+    protected int next(final int bits) {
+        return rng.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return rng.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return rng.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return rng.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return rng.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return rng.nextBoolean();
+    }
+
+    @Override
+    public synchronized void setSeed(final long seed) {
+        // Called by the Random constructor before rng is assigned; reseeding is not supported afterwards
+        if (rng != null) {
+            throw new UnsupportedOperationException("SeededRandom cannot be reseeded");
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class ThreadUtil {
 
     private final static ExecutorService gameThreadPool = Executors.newCachedThreadPool(new WorkerThreadFactory("Game"));
     private static ExecutorService getGameThreadPool() { return gameThreadPool; }
+    // shared by the AI players of all running games, threads are reused instead of started per decision
+    private final static ExecutorService aiThreadPool = Executors.newCachedThreadPool(new WorkerThreadFactory("Game AI Eval"));
     private final static ScheduledExecutorService scheduledPool = Executors.newScheduledThreadPool(2, new WorkerThreadFactory("Delayed"));
     private static ScheduledExecutorService getScheduledPool() { return scheduledPool; }
 
@@ -38,6 +40,14 @@ public class ThreadUtil {
         getGameThreadPool().execute(toRun);
     }
 
+    /**
+     * Runs an AI evaluation off the calling thread. Cancelling the returned future interrupts it,
+     * so long running evaluations should check {@link Thread#isInterrupted()} between steps.
+     */
+    public static <T> Future<T> submitAiTask(Callable<T> task) {
+        return aiThreadPool.submit(task);
+    }
+
     public static ScheduledFuture<?> delay(int milliseconds, Runnable inputUpdater) {
         return getScheduledPool().schedule(inputUpdater, milliseconds, TimeUnit.MILLISECONDS);
     }
@@ -32,9 +32,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     }
 
     /**
-     * The {@link Set} representation of this collection.
+     * The {@link Set} representation of this collection. Every element maps to
+     * itself, so {@link #get(Object)} can return the stored instance in constant time.
      */
-    private final Set<T> set = new HashSet<>();
+    private final Map<T, T> set = new HashMap<>();
 
     /**
      * The {@link List} representation of this collection.
@@ -184,7 +185,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     }
 
     public Set<T> asSet() {
-        return set;
+        return set.keySet();
     }
 
     /**
@@ -196,7 +197,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     public boolean contains(final Object o) {
         if (o == null)
             return false;
-        return set.contains(o);
+        return set.containsKey(o);
     }
 
     /**
@@ -235,7 +236,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     public boolean add(final T e) {
         if (e == null)
             return false;
-        if (set.add(e)) {
+        if (set.putIfAbsent(e, e) == null) {
             list.add(e);
             return true;
         }
@@ -253,7 +254,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     public boolean remove(final Object o) {
         if (o == null)
             return false;
-        if (set.remove(o)) {
+        if (set.remove(o) != null) {
             list.remove(o);
             return true;
         }
@@ -263,7 +264,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     @Override
     public boolean removeIf(Predicate<? super T> filter) {
         if (list.removeIf(filter)) {
-            set.removeIf(filter);
+            set.keySet().removeIf(filter);
             return true;
         }
         return false;
@@ -274,7 +275,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean containsAll(final Collection<?> c) {
-        return set.containsAll(c);
+        return set.keySet().containsAll(c);
     }
 
     /**
@@ -374,7 +375,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean retainAll(final Collection<?> c) {
-        if (set.retainAll(c)) {
+        if (set.keySet().retainAll(c)) {
             list.retainAll(c);
             return true;
         }
@@ -427,7 +428,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      * @return whether this collection changed as a result of this method call.
      */
     private boolean insert(int index, final T element) {
-        if (set.add(element)) {
+        if (set.putIfAbsent(element, element) == null) {
             list.add(index, element);
             return true;
         }
@@ -539,12 +540,8 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
         if (obj == null) {
             return null;
         }
-        for(T x : this) {
-            if (x.equals(obj)) {
-                return x;
-            }
-        }
-        return obj;
+        final T x = set.get(obj);
+        return x != null ? x : obj;
     }
 
     @Override
@@ -554,12 +551,12 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
 
     @Override
     public boolean anyMatch(Predicate<? super T> test) {
-        return set.stream().anyMatch(test);
+        return set.keySet().stream().anyMatch(test);
     }
 
     @Override
     public boolean allMatch(Predicate<? super T> test) {
-        return set.stream().allMatch(test);
+        return set.keySet().stream().allMatch(test);
     }
 
     /**
@@ -53,6 +53,7 @@ import forge.util.collect.FCollection;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 /**
@@ -60,8 +61,8 @@ import java.util.function.Predicate;
  */
 public class Game {
 
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -116,6 +117,9 @@ public class Game {
     private Map<Player, Card> topLibsCast = Maps.newHashMap();
     private Map<Card, Integer> facedownWhileCasting = Maps.newHashMap();
 
+    // last known game card for each id, kept up to date by zone moves and checked again on every lookup
+    private final Map<Integer, Card> cardIdIndex = Maps.newConcurrentMap();
+
     private Player initiative;
     private Player monarch;
     private Player monarchBeginTurn;
@@ -133,6 +137,7 @@ public class Game {
     private GameStage age = GameStage.BeforeMulligan;
     private GameOutcome outcome;
     private final Game maingame;
+    private SeededRandom random;
 
     private final GameView view;
     private final Tracker tracker = new Tracker();
@@ -146,6 +151,24 @@ public class Game {
         return this.id;
     }
 
+    /**
+     * Gets the random generator every shuffle, coin flip and random choice of this game should draw from.
+     * While the game is running, {@link MyRandom#getRandom()} also returns it on the game thread.
+     */
+    public SeededRandom getRandom() {
+        if (random == null) {
+            // games of a match are started in the order they're created, so the n-th one still gets the n-th seed
+            random = new SeededRandom(match.nextGameSeed());
+        }
+        return random;
+    }
+    public void setRandom(final SeededRandom random0) {
+        random = random0;
+    }
+    public long getSeed() {
+        return getRandom().getSeed();
+    }
+
     public Player getStartingPlayer() {
         return startingPlayer;
     }
@@ -313,6 +336,12 @@ public class Game {
         match = match0;
         maingame = maingame0;
         this.id = nextId();
+        if (maingame0 != null) {
+            random = maingame0.getRandom().split();
+        } else if (match0 == null) {
+            random = new SeededRandom(MyRandom.getRandom().nextLong());
+        }
+        // otherwise the seed of the match is drawn on first use, copies of a game are given a random before that
 
         int highestTeam = -1;
         for (RegisteredPlayer psc : players0) {
@@ -382,6 +411,18 @@ public class Game {
         return tracker;
     }
 
+    /**
+     * Whether no GUI or network client watches this game, so its views only need their current values.
+     * @see Tracker#isHeadless()
+     */
+    public boolean isHeadless() {
+        return tracker.isHeadless();
+    }
+
+    public void setHeadless(final boolean headless) {
+        tracker.setHeadless(headless);
+    }
+
     /**
      * Gets the players who are still fighting to win.
      */
@@ -660,6 +701,10 @@ public class Game {
         return getCardState(card, card);
     }
     public Card getCardState(final Card card, final Card notFound) {
+        Card found = getIndexedCard(card.getId());
+        if (found != null) {
+            return found;
+        }
         CardStateVisitor visit = new CardStateVisitor(card);
         this.forEachCardInGame(visit);
         return visit.getFound(notFound);
@@ -690,21 +735,81 @@ public class Game {
         if (view == null) {
             return null;
         }
-        CardIdVisitor visit = new CardIdVisitor(view.getId());
+        final Zone zone;
         if (ZoneType.Stack.equals(view.getZone())) {
-            visit.visitAll(getStackZone());
+            zone = getStackZone();
         } else if (view.getController() != null && view.getZone() != null) {
-            visit.visitAll(getPlayer(view.getController()).getZone(view.getZone()));
+            zone = getPlayer(view.getController()).getZone(view.getZone());
         } else { // fallback if view doesn't has controller or zone set for some reason
-            forEachCardInGame(visit);
+            return findById(view.getId());
+        }
+        Card found = getIndexedCard(view.getId());
+        if (found != null && found.getZone() == zone) {
+            return found;
+        }
+        CardIdVisitor visit = new CardIdVisitor(view.getId());
+        visit.visitAll(zone);
+        found = visit.getFound();
+        if (found != null) {
+            cardIdIndex.put(found.getId(), found);
         }
-        return visit.getFound();
+        return found;
     }
 
     public Card findById(int id) {
+        Card found = getIndexedCard(id);
+        if (found != null) {
+            return found;
+        }
         CardIdVisitor visit = new CardIdVisitor(id);
         this.forEachCardInGame(visit);
-        return visit.getFound();
+        found = visit.getFound();
+        if (found != null) {
+            cardIdIndex.put(id, found);
+        }
+        return found;
+    }
+
+    /**
+     * Records the card object that now represents its id, called by {@link GameAction} when a card changes zones.
+     */
+    public void updateCardIndex(final Card c) {
+        cardIdIndex.put(c.getId(), c);
+    }
+
+    /**
+     * @return the indexed card for this id if it is still the instance held by one of the zones
+     * {@link #forEachCardInGame(Visitor)} visits, null if the zones have to be searched
+     */
+    private Card getIndexedCard(final int id) {
+        final Card c = cardIdIndex.get(id);
+        if (c == null) {
+            return null;
+        }
+        final Zone zone = c.getZone();
+        if (zone != null && isVisitedZone(zone) && zone.getCards(false).get(c) == c) {
+            return c;
+        }
+        cardIdIndex.remove(id, c);
+        return null;
+    }
+
+    private boolean isVisitedZone(final Zone zone) {
+        final ZoneType zt = zone.getZoneType();
+        if (zt == ZoneType.Stack) {
+            return zone == getStackZone();
+        }
+        switch (zt) {
+            case Graveyard, Hand, Library, Battlefield, Exile:
+                break;
+            default:
+                if (!zt.isPartOfCommandZone()) {
+                    return false;
+                }
+        }
+        // LKI copies of zones are not the zone the player holds
+        final Player p = zone.getPlayer();
+        return p != null && getPlayers().contains(p) && p.getZone(zt) == zone;
     }
 
     public void forEachCardInGame(Visitor<Card> visitor) {
@@ -107,6 +107,7 @@ public class GameAction {
         // dev mode
         if (zoneFrom == null && !c.isToken()) {
             zoneTo.add(c, position, CardCopyService.getLKICopy(c));
+            game.updateCardIndex(c);
             checkStaticAbilities();
             game.getTriggerHandler().registerActiveTrigger(c, true);
             game.fireEvent(new GameEventCardChangeZone(c, zoneFrom, zoneTo));
@@ -504,9 +505,11 @@ public class GameAction {
                 if (card == c) {
                     storeChangesZoneAll(copied, zoneFrom, zoneTo, params);
                     zoneTo.add(copied, position, toBattlefield ? null : lastKnownInfo); // the modified state of the card is also reported here (e.g. for Morbid + Awaken)
+                    game.updateCardIndex(copied);
                 } else {
                     storeChangesZoneAll(card, zoneFrom, zoneTo, params);
                     zoneTo.add(card, position, CardCopyService.getLKICopy(card));
+                    game.updateCardIndex(card);
                     card.setState(CardStateName.Original, false);
                     card.setBackSide(false);
                     card.updateStateForView();
@@ -521,6 +524,7 @@ public class GameAction {
             // "enter the battlefield as a copy" - apply code here
             // but how to query for input here and continue later while the callers assume synchronous result?
             zoneTo.add(copied, position, toBattlefield ? null : lastKnownInfo); // the modified state of the card is also reported here (e.g. for Morbid + Awaken)
+            game.updateCardIndex(copied);
             c.setZone(zoneTo);
         }
 
@@ -2286,7 +2290,7 @@ public class GameAction {
 
         //shuffle
         List<Card> shuffledCards = Lists.newArrayList(p1.getZone(ZoneType.Library).getCards().threadSafeIterable());
-        Collections.shuffle(shuffledCards);
+        Collections.shuffle(shuffledCards, game.getRandom());
 
         //check a second hand
         List<Card> hand2 = shuffledCards.subList(0,p1.getMaxHandSize());
@@ -2416,14 +2420,14 @@ public class GameAction {
 
         if (!powerPlayers.isEmpty()) {
             List<Player> players = Lists.newArrayList(powerPlayers);
-            Collections.shuffle(players, MyRandom.getRandom());
+            Collections.shuffle(players, game.getRandom());
             return players.get(0);
         }
 
         boolean isFirstGame = lastGameOutcome == null;
         if (isFirstGame) {
             game.fireEvent(new GameEventFlipCoin()); // Play the Flip Coin sound
-            goesFirst = Aggregates.random(game.getPlayers());
+            goesFirst = game.getPlayers().get(game.getRandom().nextInt(game.getPlayers().size()));
         } else {
             for (Player p : game.getPlayers()) {
                 if (!lastGameOutcome.isWinner(p.getRegisteredPlayer())) {
@@ -0,0 +1,410 @@
+package forge.game;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Multimap;
+import com.google.common.eventbus.Subscribe;
+
+import forge.game.card.CardView;
+import forge.game.event.*;
+import forge.game.player.PlayerView;
+import forge.game.zone.ZoneView;
+
+/**
+ * Serializes game events into a compact JSON-lines stream, one object per event, for external consumers
+ * that want to follow a game without parsing the localized game log.
+ * <p>
+ * Every line carries the format version {@code "v"}, the game id and a per-game sequence number.
+ * Cards are referenced by their in-game id as {@code {"id":..,"name":..}}, players by their id and name,
+ * and attack targets as {@code {"player":..}} or {@code {"card":..}} since player and card ids may overlap.
+ * Events without a mapping are skipped. New fields may be added within a version, existing ones are not changed.
+ */
+public class GameEventJsonWriter extends IGameEventVisitor.Base<String> {
+    public static final int FORMAT_VERSION = 1;
+
+    private final int gameId;
+    private final Consumer<String> out;
+    private long sequence = 0;
+
+    public GameEventJsonWriter(final Game game, final Consumer<String> out) {
+        this.gameId = game.getId();
+        this.out = out;
+    }
+
+    @Subscribe
+    public void receive(GameEvent ev) {
+        String line = ev.visit(this);
+        if (line != null) {
+            out.accept(line);
+        }
+    }
+
+    private StringBuilder begin(final String type) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("{\"v\":").append(FORMAT_VERSION);
+        sb.append(",\"game\":").append(gameId);
+        sb.append(",\"seq\":").append(++sequence);
+        sb.append(",\"type\":");
+        appendString(sb, type);
+        return sb;
+    }
+
+    private static String end(final StringBuilder sb) {
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public String visit(GameEventGameStarted ev) {
+        final StringBuilder sb = begin("game_started");
+        field(sb, "format").append(ev.gameType() == null ? "null" : quote(ev.gameType().name()));
+        field(sb, "first");
+        appendPlayer(sb, ev.firstTurn());
+        field(sb, "players").append('[');
+        boolean first = true;
+        for (PlayerView p : ev.players()) {
+            if (!first) {
+                sb.append(',');
+            }
+            appendPlayer(sb, p);
+            first = false;
+        }
+        sb.append(']');
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventTurnBegan ev) {
+        final StringBuilder sb = begin("turn_began");
+        field(sb, "turn").append(ev.turnNumber());
+        field(sb, "player");
+        appendPlayer(sb, ev.turnOwner());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventTurnPhase ev) {
+        final StringBuilder sb = begin("phase");
+        field(sb, "phase").append(ev.phase() == null ? "null" : quote(ev.phase().name()));
+        field(sb, "player");
+        appendPlayer(sb, ev.playerTurn());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardChangeZone ev) {
+        final StringBuilder sb = begin("zone_change");
+        field(sb, "card");
+        appendCard(sb, ev.card());
+        field(sb, "from");
+        appendZone(sb, ev.from());
+        field(sb, "to");
+        appendZone(sb, ev.to());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventLandPlayed ev) {
+        final StringBuilder sb = begin("land_played");
+        field(sb, "player");
+        appendPlayer(sb, ev.player());
+        field(sb, "card");
+        appendCard(sb, ev.land());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventSpellAbilityCast ev) {
+        final StringBuilder sb = begin("cast");
+        field(sb, "player");
+        appendPlayer(sb, ev.si() == null ? null : ev.si().getActivatingPlayer());
+        field(sb, "card");
+        appendCard(sb, ev.si() == null ? null : ev.si().getSourceCard());
+        field(sb, "spell").append(ev.sa() != null && ev.sa().isSpell());
+        field(sb, "stackIndex").append(ev.stackIndex());
+        field(sb, "text");
+        appendString(sb, ev.si() == null ? null : ev.si().getText());
+        field(sb, "targets");
+        appendString(sb, ev.targetDescription());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventSpellResolved ev) {
+        final StringBuilder sb = begin("resolved");
+        field(sb, "card");
+        appendCard(sb, ev.spell() == null ? null : ev.spell().getHostCard());
+        field(sb, "fizzled").append(ev.hasFizzled());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventAttackersDeclared ev) {
+        final StringBuilder sb = begin("attackers");
+        field(sb, "player");
+        appendPlayer(sb, ev.player());
+        field(sb, "attacks").append('[');
+        boolean first = true;
+        for (Entry<GameEntityView, CardView> e : ev.attackersMap().entries()) {
+            if (!first) {
+                sb.append(',');
+            }
+            sb.append("{\"attacker\":");
+            appendCard(sb, e.getValue());
+            sb.append(",\"defender\":");
+            appendEntity(sb, e.getKey());
+            sb.append('}');
+            first = false;
+        }
+        sb.append(']');
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventBlockersDeclared ev) {
+        final StringBuilder sb = begin("blockers");
+        field(sb, "player");
+        appendPlayer(sb, ev.defendingPlayer());
+        field(sb, "blocks").append('[');
+        boolean first = true;
+        for (Map.Entry<GameEntityView, Multimap<CardView, CardView>> defender : ev.blockers().entrySet()) {
+            for (Map.Entry<CardView, Collection<CardView>> attacker : defender.getValue().asMap().entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append("{\"attacker\":");
+                appendCard(sb, attacker.getKey());
+                sb.append(",\"blockers\":");
+                appendCards(sb, attacker.getValue());
+                sb.append('}');
+                first = false;
+            }
+        }
+        sb.append(']');
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventPlayerLivesChanged ev) {
+        final StringBuilder sb = begin("life");
+        field(sb, "player");
+        appendPlayer(sb, ev.player());
+        field(sb, "old").append(ev.oldLives());
+        field(sb, "new").append(ev.newLives());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventPlayerDamaged ev) {
+        final StringBuilder sb = begin("player_damage");
+        field(sb, "player");
+        appendPlayer(sb, ev.target());
+        field(sb, "source");
+        appendCard(sb, ev.source());
+        field(sb, "amount").append(ev.amount());
+        field(sb, "combat").append(ev.combat());
+        field(sb, "infect").append(ev.infect());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventPlayerPoisoned ev) {
+        final StringBuilder sb = begin("poison");
+        field(sb, "player");
+        appendPlayer(sb, ev.receiver());
+        field(sb, "old").append(ev.oldValue());
+        field(sb, "amount").append(ev.amount());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventPlayerCounters ev) {
+        final StringBuilder sb = begin("player_counters");
+        field(sb, "player");
+        appendPlayer(sb, ev.receiver());
+        field(sb, "counter");
+        appendString(sb, String.valueOf(ev.type()));
+        field(sb, "old").append(ev.oldValue());
+        field(sb, "amount").append(ev.amount());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardDamaged ev) {
+        final StringBuilder sb = begin("card_damage");
+        field(sb, "card");
+        appendCard(sb, ev.card());
+        field(sb, "source");
+        appendCard(sb, ev.source());
+        field(sb, "amount").append(ev.amount());
+        field(sb, "damageType").append(ev.type() == null ? "null" : quote(ev.type().name()));
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardTapped ev) {
+        final StringBuilder sb = begin("tapped");
+        field(sb, "card");
+        appendCard(sb, ev.card());
+        field(sb, "tapped").append(ev.tapped());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardCounters ev) {
+        final StringBuilder sb = begin("card_counters");
+        field(sb, "card");
+        appendCard(sb, ev.card());
+        field(sb, "counter");
+        appendString(sb, String.valueOf(ev.type()));
+        field(sb, "old").append(ev.oldValue());
+        field(sb, "new").append(ev.newValue());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardStatsChanged ev) {
+        final StringBuilder sb = begin("card_stats");
+        field(sb, "cards");
+        appendCards(sb, ev.cards());
+        field(sb, "transform").append(ev.transform());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardAttachment ev) {
+        final StringBuilder sb = begin("attach");
+        field(sb, "card");
+        appendCard(sb, ev.equipment());
+        field(sb, "from");
+        appendEntity(sb, ev.oldEntity());
+        field(sb, "to");
+        appendEntity(sb, ev.newTarget());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventCardSacrificed ev) {
+        final StringBuilder sb = begin("sacrificed");
+        field(sb, "card");
+        appendCard(sb, ev.card());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventMulligan ev) {
+        final StringBuilder sb = begin("mulligan");
+        field(sb, "player");
+        appendPlayer(sb, ev.player());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventShuffle ev) {
+        final StringBuilder sb = begin("shuffle");
+        field(sb, "player");
+        appendPlayer(sb, ev.player());
+        return end(sb);
+    }
+
+    @Override
+    public String visit(GameEventGameOutcome ev) {
+        final StringBuilder sb = begin("game_outcome");
+        field(sb, "lastTurn").append(ev.lastTurnNumber());
+        field(sb, "winner");
+        appendString(sb, ev.winningPlayerName());
+        return end(sb);
+    }
+
+    private static StringBuilder field(final StringBuilder sb, final String name) {
+        return sb.append(",\"").append(name).append("\":");
+    }
+
+    private static void appendPlayer(final StringBuilder sb, final PlayerView p) {
+        if (p == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append("{\"id\":").append(p.getId()).append(",\"name\":");
+        appendString(sb, p.getName());
+        sb.append('}');
+    }
+
+    private static void appendCard(final StringBuilder sb, final CardView c) {
+        if (c == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append("{\"id\":").append(c.getId()).append(",\"name\":");
+        appendString(sb, c.getName());
+        sb.append('}');
+    }
+
+    private static void appendCards(final StringBuilder sb, final Iterable<CardView> cards) {
+        sb.append('[');
+        if (cards != null) {
+            boolean first = true;
+            for (CardView c : cards) {
+                if (!first) {
+                    sb.append(',');
+                }
+                appendCard(sb, c);
+                first = false;
+            }
+        }
+        sb.append(']');
+    }
+
+    private static void appendEntity(final StringBuilder sb, final GameEntityView e) {
+        if (e instanceof PlayerView) {
+            sb.append("{\"player\":").append(e.getId()).append('}');
+        } else if (e != null) {
+            sb.append("{\"card\":").append(e.getId()).append('}');
+        } else {
+            sb.append("null");
+        }
+    }
+
+    private static void appendZone(final StringBuilder sb, final ZoneView z) {
+        if (z == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append("{\"zone\":").append(z.zoneType() == null ? "null" : quote(z.zoneType().name()));
+        sb.append(",\"player\":").append(z.player() == null ? "null" : String.valueOf(z.player().getId()));
+        sb.append('}');
+    }
+
+    private static String quote(final String s) {
+        final StringBuilder sb = new StringBuilder(s.length() + 2);
+        appendString(sb, s);
+        return sb.toString();
+    }
+
+    private static void appendString(final StringBuilder sb, final String s) {
+        if (s == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char ch = s.charAt(i);
+            switch (ch) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (ch < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        sb.append(ch);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -18,10 +18,14 @@
 package forge.game;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Observable;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * <p>
@@ -33,9 +37,13 @@ import java.util.Set;
 public class GameLog extends Observable implements Serializable {
     private static final long serialVersionUID = 6465283802022948827L;
 
-    private final List<GameLogEntry> log = new ArrayList<>();
+    // the game thread adds to it while the UI reads it, both only while holding it
+    private final Deque<GameLogEntry> log = new ArrayDeque<>();
+    // negative keeps every entry, otherwise only the newest ones are retained in memory
+    private int maxRetainedEntries = -1;
 
     private final transient GameLogFormatter formatter = new GameLogFormatter(this);
+    private final transient List<GameLogSink> sinks = new CopyOnWriteArrayList<>();
 
     /** Logging level:
      * 0 - Turn
@@ -53,11 +61,45 @@ public class GameLog extends Observable implements Serializable {
     }
 
     void add(GameLogEntry entry) {
-        log.add(entry);
+        synchronized (log) {
+            if (maxRetainedEntries != 0) {
+                log.addLast(entry);
+                if (maxRetainedEntries > 0 && log.size() > maxRetainedEntries) {
+                    log.removeFirst();
+                }
+            }
+        }
+        if (sinks != null) {
+            for (GameLogSink sink : sinks) {
+                sink.onLogEntry(entry);
+            }
+        }
         this.setChanged();
         this.notifyObservers();
     }
 
+    public void addSink(final GameLogSink sink) {
+        sinks.add(sink);
+    }
+
+    public void removeSink(final GameLogSink sink) {
+        sinks.remove(sink);
+    }
+
+    /**
+     * Limits how many entries are kept in memory, so very long games streamed through a {@link GameLogSink}
+     * don't grow without bounds. Sinks still receive every entry.
+     * @param max the number of newest entries to retain, or a negative value to keep all
+     */
+    public void setMaxRetainedEntries(final int max) {
+        synchronized (log) {
+            maxRetainedEntries = max;
+            while (max >= 0 && log.size() > max) {
+                log.removeFirst();
+            }
+        }
+    }
+
     /**
      * Gets the log entries below a certain level as a list.
      *
@@ -67,10 +109,12 @@ public class GameLog extends Observable implements Serializable {
     public List<GameLogEntry> getLogEntries(final GameLogEntryType logLevel) { // null to fetch all
         final List<GameLogEntry> result = new ArrayList<>();
     
-        for (int i = log.size() - 1; i >= 0; i--) {
-            GameLogEntry le = log.get(i);
-            if (logLevel == null || le.type().compareTo(logLevel) <= 0) {
-                result.add(le);
+        synchronized (log) {
+            for (Iterator<GameLogEntry> it = log.descendingIterator(); it.hasNext(); ) {
+                GameLogEntry le = it.next();
+                if (logLevel == null || le.type().compareTo(logLevel) <= 0) {
+                    result.add(le);
+                }
             }
         }
         return result;
@@ -82,10 +126,12 @@ public class GameLog extends Observable implements Serializable {
 
     public List<GameLogEntry> getLogEntriesForTypes(final Set<GameLogEntryType> types) {
         final List<GameLogEntry> result = new ArrayList<>();
-        for (int i = log.size() - 1; i >= 0; i--) {
-            GameLogEntry le = log.get(i);
-            if (types.contains(le.type())) {
-                result.add(le);
+        synchronized (log) {
+            for (Iterator<GameLogEntry> it = log.descendingIterator(); it.hasNext(); ) {
+                GameLogEntry le = it.next();
+                if (types.contains(le.type())) {
+                    result.add(le);
+                }
             }
         }
         return result;
@@ -94,10 +140,12 @@ public class GameLog extends Observable implements Serializable {
     public List<GameLogEntry> getLogEntriesExact(final GameLogEntryType logLevel) { // null to fetch all
         final List<GameLogEntry> result = new ArrayList<>();
     
-        for (int i = log.size() - 1; i >= 0; i--) {
-            GameLogEntry le = log.get(i);
-            if (logLevel == null || le.type().compareTo(logLevel) == 0) {
-                result.add(le);
+        synchronized (log) {
+            for (Iterator<GameLogEntry> it = log.descendingIterator(); it.hasNext(); ) {
+                GameLogEntry le = it.next();
+                if (logLevel == null || le.type().compareTo(logLevel) == 0) {
+                    result.add(le);
+                }
             }
         }
         return result;
@@ -0,0 +1,10 @@
+package forge.game;
+
+/**
+ * Receives every {@link GameLogEntry} the moment it is added to a {@link GameLog},
+ * e.g. to stream the log of a headless game instead of dumping it once the game is over.
+ */
+@FunctionalInterface
+public interface GameLogSink {
+    void onLogEntry(GameLogEntry entry);
+}
@@ -0,0 +1,47 @@
+package forge.game;
+
+/**
+ * What {@link Match} asks of the garbage collector once a game has finished.
+ */
+public enum GameMemoryPolicy {
+    /** Leave collection to the JVM. Best for batch simulation, where the next game starts right away. */
+    NONE,
+    /** Request a collection with {@link System#gc()}, which the JVM may ignore. */
+    HINT,
+    /** Collect until the used heap stops shrinking, e.g. to measure memory between games. */
+    FULL;
+
+    private static final int MAX_FULL_PASSES = 4;
+
+    public void apply() {
+        switch (this) {
+            case HINT:
+                System.gc();
+                break;
+            case FULL:
+                final Runtime rt = Runtime.getRuntime();
+                long used = rt.totalMemory() - rt.freeMemory();
+                for (int i = 0; i < MAX_FULL_PASSES; i++) {
+                    System.gc();
+                    final long after = rt.totalMemory() - rt.freeMemory();
+                    if (after >= used) {
+                        break;
+                    }
+                    used = after;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Parse from the enum name, case insensitive. */
+    public static GameMemoryPolicy fromString(final String value) {
+        for (GameMemoryPolicy p : values()) {
+            if (p.name().equalsIgnoreCase(value)) {
+                return p;
+            }
+        }
+        throw new IllegalArgumentException("Unknown memory policy: " + value);
+    }
+}
@@ -16,6 +16,10 @@ public class GameRules {
     private boolean sideboardForAI = false;
     private final Set<GameType> appliedVariants = EnumSet.noneOf(GameType.class);
     private int simTimeout = 120;
+    // seed for the game random generators, null picks a fresh random seed for each match
+    private Long seed = null;
+    // what to ask of the garbage collector after each game, the GUI keeps the old explicit collection
+    private GameMemoryPolicy memoryPolicy = GameMemoryPolicy.HINT;
 
     // it's a preference, not rule... but I could hardly find a better place for it
     private boolean useGrayText;
@@ -133,4 +137,20 @@ public class GameRules {
     public void setSimTimeout(final int duration) {
         this.simTimeout = duration;
     }
+
+    public Long getSeed() {
+        return this.seed;
+    }
+
+    public void setSeed(final Long seed) {
+        this.seed = seed;
+    }
+
+    public GameMemoryPolicy getMemoryPolicy() {
+        return this.memoryPolicy;
+    }
+
+    public void setMemoryPolicy(final GameMemoryPolicy memoryPolicy) {
+        this.memoryPolicy = memoryPolicy;
+    }
 }
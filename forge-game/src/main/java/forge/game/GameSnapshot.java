@@ -50,6 +50,7 @@ public class GameSnapshot {
         GameRules currentRules = origGame.getRules();
         Match newMatch = new Match(currentRules, newPlayers, origGame.getView().getTitle());
         newGame = new Game(newPlayers, currentRules, newMatch);
+        newGame.setRandom(origGame.getRandom().splitForCopy());
         restore = false;
         assignGameState(origGame, newGame, includeStack);
         //System.out.println("Storing game state with timestamp of :" + origGame.getTimestamp());
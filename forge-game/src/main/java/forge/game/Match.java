@@ -23,14 +23,16 @@ import forge.game.zone.ZoneType;
 import forge.item.PaperCard;
 import forge.util.Localizer;
 import forge.util.MyRandom;
+import forge.util.SeededRandom;
 import forge.util.collect.FCollectionView;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.security.SecureRandom;
 import java.util.*;
 import java.util.Map.Entry;
 
 public class Match {
-    private static List<PaperCard> removedCards = Lists.newArrayList();
+    private final List<PaperCard> removedCards = Lists.newArrayList();
     private final List<RegisteredPlayer> players;
     private final GameRules rules;
     private final String title;
@@ -39,6 +41,8 @@ public class Match {
     private final Map<Integer, GameOutcome> gameOutcomes = Maps.newHashMap();
 
     private GameOutcome lastOutcome = null;
+    // made with the first game, the copies the AI simulates with get their random from the original game instead
+    private SplittableRandom gameSeeds;
 
     public Match(final GameRules rules0, final List<RegisteredPlayer> players0, final String title) {
         players = Collections.unmodifiableList(Lists.newArrayList(players0));
@@ -73,11 +77,39 @@ public class Match {
         return new Game(players, rules, this);
     }
 
+    /**
+     * Creates a game whose random generator uses the given seed instead of the next one of this match.
+     */
+    public Game createGame(final long seed) {
+        final Game game = createGame();
+        game.setRandom(new SeededRandom(seed));
+        return game;
+    }
+
+    /**
+     * Seeds are derived from {@link GameRules#getSeed()}, so the n-th game of a match is reproducible.
+     */
+    synchronized long nextGameSeed() {
+        if (gameSeeds == null) {
+            gameSeeds = new SplittableRandom(rules.getSeed() != null ? rules.getSeed() : new SecureRandom().nextLong());
+        }
+        return gameSeeds.nextLong();
+    }
+
     public void startGame(final Game game) {
         startGame(game, null);
     }
 
     public void startGame(final Game game, Runnable startGameHook) {
+        final Random previousRandom = MyRandom.bindToThread(game.getRandom());
+        try {
+            playGame(game, startGameHook);
+        } finally {
+            MyRandom.bindToThread(previousRandom);
+        }
+    }
+
+    private void playGame(final Game game, Runnable startGameHook) {
         prepareAllZones(game);
         if (rules.useAnte()) {  // Deciding which cards go to ante
             Multimap<Player, Card> list = game.chooseCardsForAnte(rules.getMatchAnteRarity());
@@ -99,8 +131,7 @@ public class Match {
         // will pull UI dialog, when the UI is listening
         game.fireEvent(new GameEventGameFinished());
 
-        //run GC after game is finished
-        System.gc();
+        rules.getMemoryPolicy().apply();
     }
 
     public GameOutcome getOutcomeById(int id) {
@@ -191,7 +222,7 @@ public class Match {
         return myRemovedAnteCards;
     }
 
-    public static List<PaperCard> getRemovedCards() { return removedCards; }
+    public List<PaperCard> getRemovedCards() { return removedCards; }
 
     public void removeCard(PaperCard c) {
         removedCards.add(c);
@@ -378,14 +378,13 @@ public class AbilityUtils {
         final Game game = card.getGame();
 
         // Strip and save sign for calculations
-        final boolean startsWithPlus = amount.charAt(0) == '+';
-        final boolean startsWithMinus = amount.charAt(0) == '-';
-        if (startsWithPlus || startsWithMinus) { amount = amount.substring(1); }
-        int multiplier = startsWithMinus ? -1 : 1;
+        final AmountExpression amountExpr = AmountExpression.of(amount);
+        amount = amountExpr.unsigned;
+        int multiplier = amountExpr.multiplier;
 
         // return result soon for plain numbers
-        if (StringUtils.isNumeric(amount)) {
-            int val = Integer.parseInt(amount);
+        if (amountExpr.isNumber) {
+            int val = amountExpr.number;
             if (maxto) {
                 val = Math.max(val, 0);
             }
@@ -417,25 +416,23 @@ public class AbilityUtils {
             return 0;
         }
 
+        final AmountExpression svarExpr = AmountExpression.of(svarval);
         // Handle numeric constant coming in svar value
-        if (StringUtils.isNumeric(svarval)) {
-            int val = Integer.parseInt(svarval);
+        if (svarExpr.isSignedNumber) {
+            int val = svarExpr.number;
             if (maxto) {
                 val = Math.max(val, 0);
             }
             return val * multiplier;
         }
 
-        // Parse Object$Property string
-        final String[] calcX = svarval.split("\\$", 2);
-
-        // Incorrect parses mean zero.
-        if (calcX.length == 1 || calcX[1].equals("none")) {
+        // Incorrect parses of the Object$Property string mean zero.
+        if (svarExpr.property == null || svarExpr.property.equals("none")) {
             return 0;
         }
 
         // modify amount string for text changes
-        calcX[1] = applyAbilityTextChangeEffects(calcX[1], ability);
+        final String[] calcX = {svarExpr.object, applyAbilityTextChangeEffects(svarExpr.property, ability)};
 
         ability = adjustTriggerContext(calcX, ability);
 
@@ -445,9 +442,8 @@ public class AbilityUtils {
         } else if (calcX[0].startsWith("Number")) {
             val = xCount(card, svarval, ability);
         } else if (calcX[0].startsWith("SVar")) {
-            final String[] l = calcX[1].split("/");
-            final String m = CardFactoryUtil.extractOperators(calcX[1]);
-            val = doXMath(calculateAmount(card, l[0], ability), m, card, ability);
+            final AmountExpression svar = AmountExpression.of(calcX[1]);
+            val = doXMath(calculateAmount(card, svar.head, ability), svar.operators, card, ability);
         } else if (calcX[0].startsWith("PlayerCount")) {
             final String hType = calcX[0].substring(11);
             final FCollection<Player> players = new FCollection<>();
@@ -637,9 +633,9 @@ public class AbilityUtils {
                 // TriggerCount is similar to a regular Count, but just
                 // pulls Integer Values from Trigger objects
                 final SpellAbility root = sa.getRootAbility();
-                final String[] l = calcX[1].split("/");
-                final String m = CardFactoryUtil.extractOperators(calcX[1]);
-                final Object to = root.getTriggeringObject(AbilityKey.fromString(l[0]));
+                final AmountExpression triggerCount = AmountExpression.of(calcX[1]);
+                final String m = triggerCount.operators;
+                final Object to = root.getTriggeringObject(AbilityKey.fromString(triggerCount.head));
                 Integer count = null;
                 if (to instanceof Iterable<?>) {
                     @SuppressWarnings("unchecked")
@@ -659,9 +655,9 @@ public class AbilityUtils {
                 // ReplaceCount is similar to a regular Count, but just
                 // pulls Integer Values from Replacement objects
                 final SpellAbility root = sa.getRootAbility();
-                final String[] l = calcX[1].split("/");
-                final String m = CardFactoryUtil.extractOperators(calcX[1]);
-                final Integer count = (Integer) root.getReplacingObject(AbilityKey.fromString(l[0]));
+                final AmountExpression replace = AmountExpression.of(calcX[1]);
+                final String m = replace.operators;
+                final Integer count = (Integer) root.getReplacingObject(AbilityKey.fromString(replace.head));
 
                 val = doXMath(Objects.requireNonNullElse(count, 0), m, card, ability);
             } else { // these ones only for handling lists
@@ -1551,9 +1547,8 @@ public class AbilityUtils {
      * @return a int.
      */
     public static int xCount(Card c, final String s, final CardTraitBase ctb) {
-        final String s2 = applyAbilityTextChangeEffects(s, ctb);
-        final String[] l = s2.split("/");
-        final String expr = CardFactoryUtil.extractOperators(s2);
+        final AmountExpression countExpr = AmountExpression.of(applyAbilityTextChangeEffects(s, ctb));
+        final String expr = countExpr.operators;
 
         Player player = null;
         if (ctb != null) {
@@ -1566,24 +1561,20 @@ public class AbilityUtils {
         }
 
         // accept straight numbers
-        if (l[0].startsWith("Number$")) {
-            final String number = l[0].substring(7);
-            return doXMath(Integer.parseInt(number), expr, c, ctb);
+        if (countExpr.numberText != null) {
+            return doXMath(Integer.parseInt(countExpr.numberText), expr, c, ctb);
         }
 
-        if (l[0].startsWith("Count$")) {
-            l[0] = l[0].substring(6);
-        }
+        final String head = countExpr.countHead;
 
-        if (l[0].startsWith("SVar$")) {
-            String n = l[0].substring(5);
+        if (countExpr.svarName != null) {
+            String n = countExpr.svarName;
             String v = ctb == null ? c.getSVar(n) : ctb.getSVar(n);
             return doXMath(xCount(c, v, ctb), expr, c, ctb);
         }
 
-        final String[] sq;
-        sq = l[0].split("\\.");
-        String[] paidparts = l[0].split("\\$", 2);
+        final String[] sq = countExpr.dotParts;
+        final String[] paidparts = countExpr.dollarParts;
         Iterable<Card> someCards = null;
         final Game game = c.getGame();
 
@@ -1796,7 +1787,7 @@ public class AbilityUtils {
                 }
 
                 if (sq[0].startsWith("LastStateGraveyard")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = head.split(" ");
                     CardCollectionView list;
                     // this is only for spells that were cast
                     if (sq[0].contains("WithFallback")) {
@@ -1853,14 +1844,14 @@ public class AbilityUtils {
             } else {
                 // fallback if ctb isn't a spellability
                 if (sq[0].startsWith("LastStateBattlefield")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = head.split(" ");
                     CardCollectionView list = game.getLastStateBattlefield();
                     list = CardLists.getValidCards(list, k[1], player, c, ctb);
                     return doXMath(list.size(), expr, c, ctb);
                 }
 
                 if (sq[0].startsWith("LastStateGraveyard")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = head.split(" ");
                     CardCollectionView list = game.getLastStateGraveyard();
                     list = CardLists.getValidCards(list, k[1], player, c, ctb);
                     return doXMath(list.size(), expr, c, ctb);
@@ -2092,7 +2083,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("TotalValue")) {
-            return doXMath(c.getKeywordMagnitude(Keyword.smartValueOf(l[0].split(" ")[1])), expr, c, ctb);
+            return doXMath(c.getKeywordMagnitude(Keyword.smartValueOf(head.split(" ")[1])), expr, c, ctb);
         }
         if (sq[0].contains("TimesKicked")) {
             return doXMath(isUnlinkedFromCastSA(ctb, c) ? 0 : c.getKickerMagnitude(), expr, c, ctb);
@@ -2196,7 +2187,7 @@ public class AbilityUtils {
 
         // Count$AttachedTo <restriction>
         if (sq[0].startsWith("AttachedTo")) {
-            final String[] k = l[0].split(" ");
+            final String[] k = head.split(" ");
             int sum = CardLists.getValidCardCount(c.getAttachedCards(), k[1], player, c, ctb);
             return doXMath(sum, expr, c, ctb);
         }
@@ -2331,7 +2322,7 @@ public class AbilityUtils {
             // only used by Opal Palace, and it does add the trigger to the card
             return doXMath(player.getCommanderCast(c), expr, c, ctb);
         }
-        if (l[0].startsWith("TotalCommanderCastFromCommandZone")) {
+        if (head.startsWith("TotalCommanderCastFromCommandZone")) {
             return doXMath(player.getTotalCommanderCast(), expr, c, ctb);
         }
 
@@ -2383,7 +2374,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("TotalDamageThisTurn")) {
-            String[] props = l[0].split(" ");
+            String[] props = head.split(" ");
             int sum = 0;
             for (Pair<Integer, Boolean> p : c.getDamageReceivedThisTurn()) {
                 if (game.getDamageLKI(p).getLeft().isValid(props[1], player, c, ctb)) {
@@ -2399,7 +2390,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("DamageThisTurn")) {
-            String[] props = l[0].split(" ");
+            String[] props = head.split(" ");
             Boolean isCombat = null;
             if (sq[0].contains("CombatDamage")) {
                 isCombat = !sq[0].contains("Non");
@@ -2458,7 +2449,7 @@ public class AbilityUtils {
         if (sq[0].startsWith("TypesSharedWith")) {
             Set<CardType.CoreType> thisTypes = Sets.newHashSet(c.getType().getCoreTypes());
             Set<CardType.CoreType> matches = new HashSet<>();
-            for (Card c1 : getDefinedCards(ctb.getHostCard(), l[0].split(" ", 2)[1], ctb)) {
+            for (Card c1 : getDefinedCards(ctb.getHostCard(), head.split(" ", 2)[1], ctb)) {
                 for (CardType.CoreType type : Sets.newHashSet(c1.getType().getCoreTypes())) {
                     if (thisTypes.contains(type)) {
                         matches.add(type);
@@ -2496,19 +2487,19 @@ public class AbilityUtils {
 
         // Count$CardAttackedThisTurn <Valid>
         if (sq[0].startsWith("CreaturesAttackedThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = head.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(player.getCreaturesAttackedThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Count$LeftBattlefieldThisTurn <Valid>
         if (sq[0].startsWith("LeftBattlefieldThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = head.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(game.getLeftBattlefieldThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
         if (sq[0].startsWith("LeftGraveyardThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = head.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(game.getLeftGraveyardThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
@@ -2523,7 +2514,7 @@ public class AbilityUtils {
 
         // Manapool
         if (sq[0].startsWith("ManaPool")) {
-            final String color = l[0].split(":")[1];
+            final String color = head.split(":")[1];
             int v = 0;
             if (color.equals("All")) {
                 v = player.getManaPool().totalMana();
@@ -2687,8 +2678,8 @@ public class AbilityUtils {
             return doXMath(CardLists.getTotalChroma(cards, colorCode), expr, c, ctb);
         }
 
-        if (l[0].contains("ExactManaCost")) {
-            String[] sqparts = l[0].split(" ", 2);
+        if (head.contains("ExactManaCost")) {
+            String[] sqparts = head.split(" ", 2);
             final String[] rest = sqparts[1].split(",");
 
             final CardCollectionView cardsInZones = sqparts[0].length() > 13
@@ -2798,20 +2789,20 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("CountersAddedThisTurn")) {
-            final String[] parts = l[0].split(" ");
+            final String[] parts = head.split(" ");
             CounterType cType = CounterType.getType(parts[1]);
 
             return doXMath(game.getCounterAddedThisTurn(cType, parts[2], parts[3], c, player, ctb), expr, c, ctb);
         }
         if (sq[0].startsWith("CountersRemovedThisTurn")) {
-            final String[] parts = l[0].split(" ");
+            final String[] parts = head.split(" ");
             CounterType cType = CounterType.getType(parts[1]);
 
             return doXMath(game.getCounterRemovedThisTurn(cType, parts[2], c, player, ctb), expr, c, ctb);
         }
 
         if (sq[0].startsWith("MostCardName")) {
-            String[] lparts = l[0].split(" ", 2);
+            String[] lparts = head.split(" ", 2);
             final String[] rest = lparts[1].split(",");
 
             final CardCollectionView cardsInZones = lparts[0].length() > 12
@@ -2836,13 +2827,13 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("MostProminentCreatureType")) {
-            String restriction = l[0].split(" ")[1];
+            String restriction = head.split(" ")[1];
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             return doXMath(CardFactoryUtil.getMostProminentCreatureTypeSize(list), expr, c, ctb);
         }
 
         if (sq[0].startsWith("SecondMostProminentColor")) {
-            String restriction = l[0].split(" ")[1];
+            String restriction = head.split(" ")[1];
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             int[] colorSize = CardFactoryUtil.SortColorsFromList(list);
             return doXMath(colorSize[colorSize.length - 2], expr, c, ctb);
@@ -2851,7 +2842,7 @@ public class AbilityUtils {
         // TODO move below to handlePaid
         if (sq[0].startsWith("DifferentCounterKinds_")) {
             final Set<CounterType> kinds = Sets.newHashSet();
-            final String rest = l[0].substring(22);
+            final String rest = head.substring(22);
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), rest, player, c, ctb);
             for (final Card card : list) {
                 kinds.addAll(card.getCounters().keySet());
@@ -3157,68 +3148,9 @@ public class AbilityUtils {
             return num;
         }
 
-        final String[] s = operators.split("\\.");
-        int secondaryNum = 0;
-
-        try {
-            if (s.length == 2) {
-                secondaryNum = Integer.parseInt(s[1]);
-            }
-        } catch (final Exception e) {
-            secondaryNum = calculateAmount(c, s[1], ctb);
-        }
-
-        if (s[0].contains("Plus")) {
-            return num + secondaryNum;
-        } else if (s[0].contains("NMinus")) {
-            return secondaryNum - num;
-        } else if (s[0].contains("Minus")) {
-            return num - secondaryNum;
-        } else if (s[0].contains("Twice")) {
-            return num * 2;
-        } else if (s[0].contains("Thrice")) {
-            return num * 3;
-        } else if (s[0].contains("HalfUp")) {
-            return (int) Math.ceil(num / 2.0);
-        } else if (s[0].contains("HalfDown")) {
-            return (int) Math.floor(num / 2.0);
-        } else if (s[0].contains("ThirdUp")) {
-            return (int) Math.ceil(num / 3.0);
-        } else if (s[0].contains("ThirdDown")) {
-            return (int) Math.floor(num / 3.0);
-        } else if (s[0].contains("Negative")) {
-            return num * -1;
-        } else if (s[0].contains("Times")) {
-            return num * secondaryNum;
-        } else if (s[0].contains("Pow")) {
-            return (int) Math.pow(num, secondaryNum);
-        } else if (s[0].contains("DivideEvenlyUp")) {
-            if (secondaryNum == 0) {
-                return 0;
-            }
-            return num / secondaryNum + (num % secondaryNum == 0 ? 0 : 1);
-        } else if (s[0].contains("DivideEvenlyDown")) {
-            if (secondaryNum == 0) {
-                return 0;
-            }
-            return num / secondaryNum;
-        } else if (s[0].contains("Mod")) {
-            return num % secondaryNum;
-        } else if (s[0].contains("Abs")) {
-            return Math.abs(num);
-        } else if (s[0].contains("LimitMax")) {
-            if (num < secondaryNum) {
-                return num;
-            }
-            return secondaryNum;
-        } else if (s[0].contains("LimitMin")) {
-            if (num > secondaryNum) {
-                return num;
-            }
-            return secondaryNum;
-        } else {
-            return num;
-        }
+        final AmountExpression.Operation op = AmountExpression.operation(operators);
+        final int secondaryNum = op.svar == null ? op.number : calculateAmount(c, op.svar, ctb);
+        return op.apply(num, secondaryNum);
     }
 
     /**
@@ -3761,10 +3693,9 @@ public class AbilityUtils {
         // "Named <CARDNAME> in all graveyards" - Count$NamedAllYards.<CARDNAME>
 
         if (sq[0].contains("Named")) {
-            if (sq[1].equals("CARDNAME")) {
-                sq[1] = c.getName();
-            }
-            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(sq[1]));
+            // sq is shared by every use of the cached expression, so it's left as it is
+            final String name = "CARDNAME".equals(sq[1]) ? c.getName() : sq[1];
+            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(name));
         }
 
         // Refined qualities
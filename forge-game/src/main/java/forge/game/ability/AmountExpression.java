@@ -0,0 +1,168 @@
+package forge.game.ability;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.util.BoundedCache;
+
+/**
+ * Parsed form of an amount, SVar value or Count$ expression as read by {@link AbilityUtils#calculateAmount},
+ * {@link AbilityUtils#xCount} and {@link AbilityUtils#doXMath}.
+ * <p>
+ * The same script strings are evaluated over and over during a game, so each one is split up only once and the
+ * immutable result is shared. Text changing effects rewrite the string itself, which then simply compiles to an
+ * entry of its own. The arrays handed out are shared as well and must not be modified.
+ */
+final class AmountExpression {
+    // strings come from card scripts, this only guards against generated ones piling up
+    private static final int MAX_CACHED = 100000;
+    private static final BoundedCache<String, AmountExpression> expressions = new BoundedCache<>(MAX_CACHED, AmountExpression::new);
+    private static final BoundedCache<String, Operation> operations = new BoundedCache<>(MAX_CACHED, Operation::new);
+
+    /** -1 if the text starts with a minus sign, 1 otherwise. */
+    final int multiplier;
+    /** The text without a leading + or - sign. */
+    final String unsigned;
+    /** The unsigned text is a plain number, see {@link #number}. */
+    final boolean isNumber;
+    final int number;
+    /** The text itself, with its sign, is a plain number. */
+    final boolean isSignedNumber;
+
+    /** Object and Property of an {@code Object$Property} text, property is null without a dollar sign. */
+    final String object;
+    final String property;
+
+    /** The part before the first slash, and the math operators after it or null. */
+    final String head;
+    final String operators;
+    /** Digits of a {@code Number$} head, otherwise null. */
+    final String numberText;
+    /** The head without a leading {@code Count$}. */
+    final String countHead;
+    /** SVar name of a {@code SVar$} count head, otherwise null. */
+    final String svarName;
+    /** The count head split at dots, and split at the first dollar sign. */
+    final String[] dotParts;
+    final String[] dollarParts;
+
+    private AmountExpression(final String text) {
+        final char first = text.isEmpty() ? ' ' : text.charAt(0);
+        final boolean signed = first == '+' || first == '-';
+        multiplier = first == '-' ? -1 : 1;
+        unsigned = signed ? text.substring(1) : text;
+        isNumber = StringUtils.isNumeric(unsigned);
+        number = isNumber ? Integer.parseInt(unsigned) : 0;
+        isSignedNumber = isNumber && !signed;
+
+        final String[] calcX = text.split("\\$", 2);
+        object = calcX[0];
+        property = calcX.length > 1 ? calcX[1] : null;
+
+        final String[] l = text.split("/");
+        head = l[0];
+        operators = l.length > 1 ? l[1] : null;
+        numberText = head.startsWith("Number$") ? head.substring(7) : null;
+        countHead = head.startsWith("Count$") ? head.substring(6) : head;
+        svarName = countHead.startsWith("SVar$") ? countHead.substring(5) : null;
+        dotParts = countHead.split("\\.");
+        dollarParts = countHead.split("\\$", 2);
+    }
+
+    static AmountExpression of(final String text) {
+        return expressions.get(text);
+    }
+
+    static Operation operation(final String operators) {
+        return operations.get(operators);
+    }
+
+    enum Operator {
+        // in the order doXMath used to test for them, since some names contain others
+        Plus, NMinus, Minus, Twice, Thrice, HalfUp, HalfDown, ThirdUp, ThirdDown, Negative, Times, Pow,
+        DivideEvenlyUp, DivideEvenlyDown, Mod, Abs, LimitMax, LimitMin, None;
+
+        static Operator find(final String name) {
+            for (final Operator op : values()) {
+                if (op != None && name.contains(op.name())) {
+                    return op;
+                }
+            }
+            return None;
+        }
+    }
+
+    /**
+     * Parsed math operators like {@code Plus.2} or {@code Times.X}.
+     * The second operand is either {@link #number} or, if it is no number, the amount {@link #svar}.
+     */
+    static final class Operation {
+        final Operator operator;
+        final int number;
+        final String svar;
+
+        private Operation(final String operators) {
+            final String[] s = operators.split("\\.");
+            operator = Operator.find(s[0]);
+            int num = 0;
+            String var = null;
+            if (s.length == 2) {
+                try {
+                    num = Integer.parseInt(s[1]);
+                } catch (final NumberFormatException e) {
+                    var = s[1];
+                }
+            }
+            number = num;
+            svar = var;
+        }
+
+        int apply(final int num, final int secondaryNum) {
+            switch (operator) {
+                case Plus:
+                    return num + secondaryNum;
+                case NMinus:
+                    return secondaryNum - num;
+                case Minus:
+                    return num - secondaryNum;
+                case Twice:
+                    return num * 2;
+                case Thrice:
+                    return num * 3;
+                case HalfUp:
+                    return (int) Math.ceil(num / 2.0);
+                case HalfDown:
+                    return (int) Math.floor(num / 2.0);
+                case ThirdUp:
+                    return (int) Math.ceil(num / 3.0);
+                case ThirdDown:
+                    return (int) Math.floor(num / 3.0);
+                case Negative:
+                    return num * -1;
+                case Times:
+                    return num * secondaryNum;
+                case Pow:
+                    return (int) Math.pow(num, secondaryNum);
+                case DivideEvenlyUp:
+                    if (secondaryNum == 0) {
+                        return 0;
+                    }
+                    return num / secondaryNum + (num % secondaryNum == 0 ? 0 : 1);
+                case DivideEvenlyDown:
+                    if (secondaryNum == 0) {
+                        return 0;
+                    }
+                    return num / secondaryNum;
+                case Mod:
+                    return num % secondaryNum;
+                case Abs:
+                    return Math.abs(num);
+                case LimitMax:
+                    return Math.min(num, secondaryNum);
+                case LimitMin:
+                    return Math.max(num, secondaryNum);
+                default:
+                    return num;
+            }
+        }
+    }
+}
@@ -19,7 +19,6 @@ import forge.game.spellability.SpellAbility;
 import forge.game.staticability.StaticAbilityFlipCoinMod;
 import forge.game.trigger.TriggerType;
 import forge.util.Localizer;
-import forge.util.MyRandom;
 
 public class FlipCoinEffect extends SpellAbilityEffect {
 
@@ -210,7 +209,7 @@ public class FlipCoinEffect extends SpellAbilityEffect {
             }
 
             for (int i = 0; i < multiplier; i++) {
-                flipResults.add(MyRandom.getRandom().nextBoolean());
+                flipResults.add(flipper.getGame().getRandom().nextBoolean());
             }
         }
 
@@ -17,7 +17,6 @@ import forge.game.trigger.TriggerType;
 import forge.game.zone.ZoneType;
 import forge.util.Lang;
 import forge.util.Localizer;
-import forge.util.MyRandom;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
@@ -424,7 +423,7 @@ public class RollDiceEffect extends SpellAbilityEffect {
         List<Integer> naturalRolls = (rollsResult == null ? new ArrayList<>() : rollsResult);
 
         for (int i = 0; i < amount; i++) {
-            int roll = MyRandom.getRandom().nextInt(sides) + 1;
+            int roll = player.getGame().getRandom().nextInt(sides) + 1;
             // Play the die roll sound
             player.getGame().fireEvent(new GameEventRollDie());
             player.roll();
@@ -2,6 +2,7 @@ package forge.game.ability.effects;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import com.google.common.collect.Lists;
 
@@ -23,6 +24,7 @@ import forge.game.zone.PlayerZone;
 import forge.game.zone.ZoneType;
 import forge.item.PaperCard;
 import forge.util.Localizer;
+import forge.util.MyRandom;
 import forge.util.collect.FCollectionView;
 
 public class SubgameEffect extends SpellAbilityEffect {
@@ -145,8 +147,13 @@ public class SubgameEffect extends SpellAbilityEffect {
         String startMessage = Localizer.getInstance().getMessage("lblSubgameStart", hostCard.getTranslatedName());
         maingame.getMatch().fireEvent(new GameEventSubgameStart(subgame, startMessage));
 
-        prepareAllZonesSubgame(maingame, subgame);
-        subgame.getAction().startGame(null, null);
+        final Random mainRandom = MyRandom.bindToThread(subgame.getRandom());
+        try {
+            prepareAllZonesSubgame(maingame, subgame);
+            subgame.getAction().startGame(null, null);
+        } finally {
+            MyRandom.bindToThread(mainRandom);
+        }
         subgame.clearCaches();
 
         // Find out winners and losers
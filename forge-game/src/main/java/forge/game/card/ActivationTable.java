@@ -1,7 +1,6 @@
 package forge.game.card;
 
 import com.google.common.collect.ForwardingTable;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Table;
 import forge.game.player.Player;
@@ -13,7 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 public class ActivationTable extends ForwardingTable<SpellAbility, Optional<StaticAbility>, List<Player>> {
-    Table<SpellAbility, Optional<StaticAbility>, List<Player>> dataTable = HashBasedTable.create();
+    Table<SpellAbility, Optional<StaticAbility>, List<Player>> dataTable = LazyTable.hashBased();
 
     @Override
     protected Table<SpellAbility, Optional<StaticAbility>, List<Player>> delegate() {
@@ -96,7 +96,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // Hidden keywords won't be displayed on the card
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = TreeBasedTable.create();
+    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = LazyTable.treeBased();
 
     // cards attached or otherwise linked to this card
     private CardCollection hauntedBy, devouredCards, exploitedCards, delvedCards, imprintedCards,
@@ -121,47 +121,47 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     // changes by AF animate and continuous static effects
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, ICardChangedType> changedCardTypesByText = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, ICardChangedType> changedCardTypesCharacterDefining = TreeBasedTable.create(); // Layer 4 CDA
-    private final Table<Long, Long, ICardChangedType> changedCardTypes = TreeBasedTable.create(); // Layer 4
+    private final Table<Long, Long, ICardChangedType> changedCardTypesByText = LazyTable.treeBased(); // Layer 3
+    private final Table<Long, Long, ICardChangedType> changedCardTypesCharacterDefining = LazyTable.treeBased(); // Layer 4 CDA
+    private final Table<Long, Long, ICardChangedType> changedCardTypes = LazyTable.treeBased(); // Layer 4
 
-    private final Table<Long, Long, CardChangedName> changedCardNames = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, IKeywordsChange> changedCardKeywordsByText = TreeBasedTable.create(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardChangedName> changedCardNames = LazyTable.treeBased(); // Layer 3
+    private final Table<Long, Long, IKeywordsChange> changedCardKeywordsByText = LazyTable.treeBased(); // Layer 3 by Text Change
     protected KeywordsChange changedCardKeywordsByWord = new KeywordsChange(ImmutableList.<KeywordInterface>of(), ImmutableList.<KeywordInterface>of(), false); // Layer 3 by Word Change
-    private final Table<Long, Long, KeywordsChange> changedCardKeywords = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, KeywordsChange> changedCardKeywords = LazyTable.treeBased(); // Layer 6
 
     // stores the keywords created by static abilities
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywords = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, ICardTraitChanges> changedCardTraits = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = LazyTable.treeBased(); // Layer 3 by Text Change
+    private final Table<Long, Long, ICardTraitChanges> changedCardTraits = LazyTable.treeBased(); // Layer 6
 
     // stores the card traits created by static abilities
-    private final Table<StaticAbility, String, SpellAbility> storedSpellAbility = TreeBasedTable.create();
-    private final Table<StaticAbility, String, Trigger> storedTrigger = TreeBasedTable.create();
-    private final Table<StaticAbility, SpellAbility, SpellAbility> storedAbilityForTrigger = HashBasedTable.create();
-    private final Table<StaticAbility, String, ReplacementEffect> storedReplacementEffect = TreeBasedTable.create();
-    private final Table<StaticAbility, String, StaticAbility> storedStaticAbility = TreeBasedTable.create();
-
-    private final Table<StaticAbility, SpellAbility, SpellAbility> storedSpellAbililityByText = HashBasedTable.create();
-    private final Table<StaticAbility, String, SpellAbility> storedSpellAbililityGainedByText = TreeBasedTable.create();
-    private final Table<StaticAbility, Trigger, Trigger> storedTriggerByText = HashBasedTable.create();
-    private final Table<StaticAbility, ReplacementEffect, ReplacementEffect> storedReplacementEffectByText = HashBasedTable.create();
-    private final Table<StaticAbility, StaticAbility, StaticAbility> storedStaticAbilityByText = HashBasedTable.create();
+    private final Table<StaticAbility, String, SpellAbility> storedSpellAbility = LazyTable.treeBased();
+    private final Table<StaticAbility, String, Trigger> storedTrigger = LazyTable.treeBased();
+    private final Table<StaticAbility, SpellAbility, SpellAbility> storedAbilityForTrigger = LazyTable.hashBased();
+    private final Table<StaticAbility, String, ReplacementEffect> storedReplacementEffect = LazyTable.treeBased();
+    private final Table<StaticAbility, String, StaticAbility> storedStaticAbility = LazyTable.treeBased();
+
+    private final Table<StaticAbility, SpellAbility, SpellAbility> storedSpellAbililityByText = LazyTable.hashBased();
+    private final Table<StaticAbility, String, SpellAbility> storedSpellAbililityGainedByText = LazyTable.treeBased();
+    private final Table<StaticAbility, Trigger, Trigger> storedTriggerByText = LazyTable.hashBased();
+    private final Table<StaticAbility, ReplacementEffect, ReplacementEffect> storedReplacementEffectByText = LazyTable.hashBased();
+    private final Table<StaticAbility, StaticAbility, StaticAbility> storedStaticAbilityByText = LazyTable.hashBased();
 
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywordByText = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardColor> changedCardColorsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = TreeBasedTable.create(); // Layer 5 CDA
-    private final Table<Long, Long, CardColor> changedCardColors = TreeBasedTable.create(); // Layer 5
+    private final Table<Long, Long, CardColor> changedCardColorsByText = LazyTable.treeBased(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = LazyTable.treeBased(); // Layer 5 CDA
+    private final Table<Long, Long, CardColor> changedCardColors = LazyTable.treeBased(); // Layer 5
 
-    protected final Table<Long, Long, CardManaCost> changedCardManaCost = TreeBasedTable.create(); // Layer 3
+    protected final Table<Long, Long, CardManaCost> changedCardManaCost = LazyTable.treeBased(); // Layer 3
 
     private final NavigableMap<Long, CardCloneStates> clonedStates = Maps.newTreeMap(); // Layer 1
 
-    private final Table<Long, Long, Map<String, String>> changedSVars = TreeBasedTable.create();
+    private final Table<Long, Long, Map<String, String>> changedSVars = LazyTable.treeBased();
 
     private Map<StaticAbility, CardPlayOption> mayPlay = Maps.newHashMap();
 
@@ -270,10 +270,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // stack of set power/toughness
     // x=timestamp y=StaticAbility id
-    private Table<Long, Long, Pair<Integer,Integer>> newPTText = TreeBasedTable.create(); // Text Change Layer 3
-    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = TreeBasedTable.create(); // Layer 7a
-    private Table<Long, Long, Pair<Integer,Integer>> newPT = TreeBasedTable.create(); // Layer 7b
-    private Table<Long, Long, Pair<Integer,Integer>> boostPT = TreeBasedTable.create(); // Layer 7c
+    private Table<Long, Long, Pair<Integer,Integer>> newPTText = LazyTable.treeBased(); // Text Change Layer 3
+    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = LazyTable.treeBased(); // Layer 7a
+    private Table<Long, Long, Pair<Integer,Integer>> newPT = LazyTable.treeBased(); // Layer 7b
+    private Table<Long, Long, Pair<Integer,Integer>> boostPT = LazyTable.treeBased(); // Layer 7c
 
     private CardDamageHistory damageHistory = new CardDamageHistory();
     private final Map<Card, Integer> assignedDamageMap = Maps.newTreeMap();
@@ -363,10 +363,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     private final Map<SpellAbility, List<String>> chosenModesYourCombat = Maps.newHashMap();
     private final Map<SpellAbility, List<String>> chosenModesYourLastCombat = Maps.newHashMap();
 
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesTurnStatic = HashBasedTable.create();
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesGameStatic = HashBasedTable.create();
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourCombatStatic = HashBasedTable.create();
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourLastCombatStatic = HashBasedTable.create();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesTurnStatic = LazyTable.hashBased();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesGameStatic = LazyTable.hashBased();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourCombatStatic = LazyTable.hashBased();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourLastCombatStatic = LazyTable.hashBased();
 
     private ReplacementEffect shieldCounterReplaceDamage = null;
     private ReplacementEffect shieldCounterReplaceDestroy = null;
@@ -5768,72 +5768,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     // Takes one argument like Permanent.Blue+withFlying
     @Override
     public final boolean isValid(final String restriction, final Player sourceController, final Card source, CardTraitBase spellAbility) {
-        // Inclusive restrictions are Card types
-        final String[] incR = restriction.split("\\.", 2);
-
-        boolean testFailed = false;
-        if (incR[0].startsWith("!")) {
-            testFailed = true; // a bit counter logical))
-            incR[0] = incR[0].substring(1); // consume negation sign
-        }
-
-        if (incR[0].equals("Spell")) {
-            if (!isSpell()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Permanent")) {
-            if (!isPermanent()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Effect")) {
-            if (!isImmutable()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Emblem")) {
-            if (!isEmblem()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Boon")) {
-            if (!isBoon()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("card") || incR[0].equals("Card")) {
-            if (isImmutable()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Any")) {
-            if (!(isCreature() || isPlaneswalker() || isBattle())) {
-                return false;
-            }
-            //todo further check for Effect API and other replacement Effect
-            /*if (spellAbility == null)
-                return false;
-            ApiType apiType = ((SpellAbility) spellAbility).getApi();
-            if (!(ApiType.DealDamage.equals(apiType) || ApiType.PreventDamage.equals(apiType)))
-                return false;*/
-        } else if (!getType().hasStringType(incR[0])) {
-            return testFailed; // Check for wrong type
-        }
-
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            final String[] exRs = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (String exR : exRs) {
-                if (!hasProperty(exR, sourceController, source, spellAbility)) {
-                    return testFailed;
-                }
-            }
-        }
-        return !testFailed;
+        return CardRestriction.of(restriction).isValid(this, sourceController, source, spellAbility);
     }
 
     // Takes arguments like Blue or withFlying
     @Override
     public boolean hasProperty(final String property, final Player sourceController, final Card source, CardTraitBase spellAbility) {
-        if (property.startsWith("!")) {
-            return !CardProperty.cardHasProperty(this, property.substring(1), sourceController, source, spellAbility);
-        }
-        return CardProperty.cardHasProperty(this, property, sourceController, source, spellAbility);
+        return CardRestriction.property(property).test(this, sourceController, source, spellAbility);
     }
 
     public final boolean isEmblem() {
@@ -7601,7 +7542,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardFactory.getCard(pc, owner, owner == null ? null : owner.getGame());
     }
 
-    private static final Map<PaperCard, Card> cp2card = Maps.newHashMap();
+    private static final Map<PaperCard, Card> cp2card = Maps.newConcurrentMap();
     public static Card getCardForUi(IPaperCard pc) {
         if (pc instanceof PaperCard) {
             Card res = cp2card.get(pc);
@@ -3,7 +3,6 @@ package forge.game.card;
 import com.google.common.collect.ForwardingMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Table;
-import com.google.common.collect.TreeBasedTable;
 
 import java.util.Map;
 
@@ -24,7 +23,7 @@ public final class CardChangedWords extends ForwardingMap<String, String> {
         }
     }
 
-    private final Table<Long, Long, WordHolder> map = TreeBasedTable.create();
+    private final Table<Long, Long, WordHolder> map = LazyTable.treeBased();
 
     private boolean isDirty = false;
     private Map<String, String> resultCache = Maps.newHashMap();
@@ -0,0 +1,165 @@
+package forge.game.card;
+
+import forge.card.CardType;
+import forge.card.MagicColor;
+import forge.game.CardTraitBase;
+import forge.game.player.Player;
+import forge.util.BoundedCache;
+
+/**
+ * Compiled form of a valid card restriction like {@code Creature.YouCtrl+nonToken}, as checked by
+ * {@link Card#isValid(String, Player, Card, CardTraitBase)} and {@link Card#hasProperty}.
+ * <p>
+ * The restriction is split up once and shared per distinct string. Text changing effects rewrite the
+ * restriction string itself, so a changed text simply compiles to an entry of its own.
+ * <p>
+ * Properties that {@link CardProperty#cardHasProperty} only hands down to the card state (colors, card types and
+ * supertypes) and a few frequent ones near the start of its chain are checked directly. Everything else still goes
+ * through {@link CardProperty#cardHasProperty} with the property string.
+ */
+final class CardRestriction {
+    // strings come from card scripts, this only guards against generated ones piling up
+    private static final int MAX_CACHED = 100000;
+    private static final BoundedCache<String, CardRestriction> restrictions = new BoundedCache<>(MAX_CACHED, CardRestriction::new);
+    private static final BoundedCache<String, PropertyTest> properties = new BoundedCache<>(MAX_CACHED, CardRestriction::compileProperty);
+
+    @FunctionalInterface
+    interface PropertyTest {
+        boolean test(Card card, Player sourceController, Card source, CardTraitBase spellAbility);
+    }
+
+    private enum Kind { Spell, Permanent, Effect, Emblem, Boon, Card, Any, Type }
+
+    private final boolean negated;
+    private final Kind kind;
+    private final String type;
+    private final PropertyTest[] tests;
+
+    private CardRestriction(final String restriction) {
+        final String[] incR = restriction.split("\\.", 2);
+        String head = incR[0];
+        negated = head.startsWith("!");
+        if (negated) {
+            head = head.substring(1);
+        }
+        type = head;
+        kind = switch (head) {
+            case "Spell" -> Kind.Spell;
+            case "Permanent" -> Kind.Permanent;
+            case "Effect" -> Kind.Effect;
+            case "Emblem" -> Kind.Emblem;
+            case "Boon" -> Kind.Boon;
+            case "card", "Card" -> Kind.Card;
+            case "Any" -> Kind.Any;
+            default -> Kind.Type;
+        };
+
+        if (incR.length > 1) {
+            final String[] exRs = incR[1].split("\\+");
+            tests = new PropertyTest[exRs.length];
+            for (int i = 0; i < exRs.length; i++) {
+                tests[i] = property(exRs[i]);
+            }
+        } else {
+            tests = new PropertyTest[0];
+        }
+    }
+
+    static CardRestriction of(final String restriction) {
+        return restrictions.get(restriction);
+    }
+
+    static PropertyTest property(final String property) {
+        return properties.get(property);
+    }
+
+    boolean isValid(final Card card, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
+        // a card that isn't Any is invalid even for a negated restriction
+        if (kind == Kind.Any && !(card.isCreature() || card.isPlaneswalker() || card.isBattle())) {
+            return false;
+        }
+        final boolean typeMatches = switch (kind) {
+            case Spell -> card.isSpell();
+            case Permanent -> card.isPermanent();
+            case Effect -> card.isImmutable();
+            case Emblem -> card.isEmblem();
+            case Boon -> card.isBoon();
+            case Card -> !card.isImmutable();
+            case Any -> true;
+            case Type -> card.getType().hasStringType(type);
+        };
+        if (!typeMatches) {
+            return negated;
+        }
+        for (final PropertyTest test : tests) {
+            if (!test.test(card, sourceController, source, spellAbility)) {
+                return negated;
+            }
+        }
+        return !negated;
+    }
+
+    private static PropertyTest compileProperty(final String property) {
+        if (property.startsWith("!")) {
+            final PropertyTest test = compileUnnegated(property.substring(1));
+            return (card, sourceController, source, spellAbility) -> !test.test(card, sourceController, source, spellAbility);
+        }
+        return compileUnnegated(property);
+    }
+
+    private static PropertyTest compileUnnegated(final String property) {
+        final PropertyTest direct = compileDirect(property);
+        if (direct == null) {
+            return (card, sourceController, source, spellAbility) -> CardProperty.cardHasProperty(card, property, sourceController, source, spellAbility);
+        }
+        // CR 702.25b, same as CardProperty: a phased out card doesn't have any of these
+        return (card, sourceController, source, spellAbility) -> !card.isPhasedOut() && direct.test(card, sourceController, source, spellAbility);
+    }
+
+    private static PropertyTest compileDirect(final String property) {
+        switch (property) {
+            case "YouCtrl":
+                return (card, sourceController, source, spellAbility) -> controller(card).equals(sourceController);
+            case "YouDontCtrl":
+                return (card, sourceController, source, spellAbility) -> !controller(card).equals(sourceController);
+            case "OppCtrl":
+                return (card, sourceController, source, spellAbility) -> controller(card).getOpponents().contains(sourceController);
+            case "Other":
+                return (card, sourceController, source, spellAbility) -> !card.equals(source);
+            case "Self":
+                return (card, sourceController, source, spellAbility) -> card.equals(source);
+            case "tapped":
+                return (card, sourceController, source, spellAbility) -> card.isTapped();
+            case "untapped":
+                return (card, sourceController, source, spellAbility) -> card.isUntapped();
+            case "Colorless":
+                return (card, sourceController, source, spellAbility) -> card.getColor(card.getCurrentState()).isColorless();
+            case "nonColorless":
+                return (card, sourceController, source, spellAbility) -> !card.getColor(card.getCurrentState()).isColorless();
+            default:
+                break;
+        }
+
+        final boolean non = property.startsWith("non");
+        final String name = non ? property.substring(3) : property;
+        switch (name) {
+            case "White", "Blue", "Black", "Red", "Green" -> {
+                final byte color = MagicColor.fromName(name);
+                return (card, sourceController, source, spellAbility) ->
+                        card.getColor(card.getCurrentState()).hasAnyColor(color) != non;
+            }
+            default -> {
+                if (CardType.CoreType.isValidEnum(name) || CardType.Supertype.isValidEnum(name)) {
+                    return (card, sourceController, source, spellAbility) ->
+                            card.getCurrentState().getTypeWithChanges().hasStringType(name) != non;
+                }
+                return null;
+            }
+        }
+    }
+
+    // CardProperty checks control on the last known information of the card
+    private static Player controller(final Card card) {
+        return card.getGame().getChangeZoneLKIInfo(card).getController();
+    }
+}
@@ -13,13 +13,10 @@ public record CounterKeywordType(String keyword, String desc) implements Counter
     static ImmutableList<String> keywordCounter = ImmutableList.of(
             "Flying", "First Strike", "Double Strike", "Deathtouch", "Decayed", "Exalted", "Haste", "Hexproof",
             "Indestructible", "Lifelink", "Menace", "Reach", "Shadow", "Trample", "Vigilance");
-    private static Map<String, CounterKeywordType> sMap = Maps.newHashMap();
+    private static final Map<String, CounterKeywordType> sMap = Maps.newConcurrentMap();
 
     public static CounterKeywordType get(String s) {
-        if (!sMap.containsKey(s)) {
-            sMap.put(s, new CounterKeywordType(s, isKeywordCounter(s) ? Keyword.getInstance(s).getTitle() : null));
-        }
-        return sMap.get(s);
+        return sMap.computeIfAbsent(s, k -> new CounterKeywordType(k, isKeywordCounter(k) ? Keyword.getInstance(k).getTitle() : null));
     }
     
     @Override
@@ -0,0 +1,115 @@
+package forge.game.card;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ForwardingTable;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+import com.google.common.collect.TreeBasedTable;
+
+/**
+ * Table that only creates its backing table on the first write. Most of the layer and stored trait
+ * tables of a {@link Card} stay empty for the card's whole life, and every LKI copy is a full card again.
+ * <p>
+ * Until then reads see a shared empty table, and removals through the views are no-ops.
+ * Adding through {@link #row(Object)} or {@link #column(Object)} of a still empty table is not supported.
+ */
+final class LazyTable<R, C, V> extends ForwardingTable<R, C, V> {
+    private final Supplier<Table<R, C, V>> factory;
+    private Table<R, C, V> table;
+
+    private LazyTable(final Supplier<Table<R, C, V>> factory) {
+        this.factory = factory;
+    }
+
+    static <R extends Comparable<? super R>, C extends Comparable<? super C>, V> LazyTable<R, C, V> treeBased() {
+        return new LazyTable<>(TreeBasedTable::create);
+    }
+
+    static <R, C, V> LazyTable<R, C, V> hashBased() {
+        return new LazyTable<>(HashBasedTable::create);
+    }
+
+    @Override
+    protected Table<R, C, V> delegate() {
+        return table == null ? ImmutableTable.of() : table;
+    }
+
+    private Table<R, C, V> allocate() {
+        if (table == null) {
+            table = factory.get();
+        }
+        return table;
+    }
+
+    @Override
+    public V put(final R rowKey, final C columnKey, final V value) {
+        return allocate().put(rowKey, columnKey, value);
+    }
+
+    @Override
+    public void putAll(final Table<? extends R, ? extends C, ? extends V> other) {
+        if (!other.isEmpty()) {
+            allocate().putAll(other);
+        }
+    }
+
+    @Override
+    public V remove(final Object rowKey, final Object columnKey) {
+        return table == null ? null : table.remove(rowKey, columnKey);
+    }
+
+    @Override
+    public void clear() {
+        if (table != null) {
+            table.clear();
+        }
+    }
+
+    // the immutable views of ImmutableTable throw on any modification, even when it would not change anything
+
+    @Override
+    public Set<Cell<R, C, V>> cellSet() {
+        return table == null ? Collections.emptySet() : table.cellSet();
+    }
+
+    @Override
+    public Set<R> rowKeySet() {
+        return table == null ? Collections.emptySet() : table.rowKeySet();
+    }
+
+    @Override
+    public Set<C> columnKeySet() {
+        return table == null ? Collections.emptySet() : table.columnKeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return table == null ? Collections.emptySet() : table.values();
+    }
+
+    @Override
+    public Map<C, V> row(final R rowKey) {
+        return table == null ? Collections.emptyMap() : table.row(rowKey);
+    }
+
+    @Override
+    public Map<R, V> column(final C columnKey) {
+        return table == null ? Collections.emptyMap() : table.column(columnKey);
+    }
+
+    @Override
+    public Map<R, Map<C, V>> rowMap() {
+        return table == null ? Collections.emptyMap() : table.rowMap();
+    }
+
+    @Override
+    public Map<C, Map<R, V>> columnMap() {
+        return table == null ? Collections.emptyMap() : table.columnMap();
+    }
+}
@@ -1614,7 +1614,7 @@ public class Player extends GameEntity implements Comparable<Player> {
         final CardCollection list = new CardCollection(getCardsIn(ZoneType.Library));
 
         // Note: Shuffling once is sufficient.
-        Collections.shuffle(list, MyRandom.getRandom());
+        Collections.shuffle(list, getGame().getRandom());
 
         getZone(ZoneType.Library).setCards(getController().cheatShuffle(list));
 
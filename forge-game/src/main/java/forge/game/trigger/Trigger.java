@@ -43,6 +43,7 @@ import forge.util.TextUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -53,16 +54,17 @@ import java.util.*;
  * @version $Id$
  */
 public abstract class Trigger extends TriggerReplacementBase {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /**
      * <p>
      * resetIDs.
      * </p>
+     * Only ever moves the counter forward, so games running concurrently in the same JVM never hand out an id twice.
      */
     public static void resetIDs() {
-        Trigger.maxId = 50000;
+        maxId.accumulateAndGet(50000, Math::max);
     }
 
     /** The ID. */
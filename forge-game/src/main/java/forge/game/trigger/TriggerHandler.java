@@ -43,7 +43,10 @@ import io.sentry.Sentry;
 public class TriggerHandler {
     private final Set<TriggerType> suppressedModes = Collections.synchronizedSet(EnumSet.noneOf(TriggerType.class));
     private boolean allSuppressed = false;
-    private final List<Trigger> activeTriggers = Collections.synchronizedList(new ArrayList<>());
+    // active triggers bucketed by mode, so firing a mode only looks at the triggers that can respond to it
+    private final Map<TriggerType, List<Trigger>> activeTriggers = new EnumMap<>(TriggerType.class);
+    private final ListMultimap<Integer, Trigger> activeTriggersByHost = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
+    private final Set<Integer> activeTriggerIds = Collections.synchronizedSet(new HashSet<>());
 
     private final List<Trigger> delayedTriggers = Collections.synchronizedList(new ArrayList<>());
     private final List<Trigger> thisTurnDelayedTriggers = Collections.synchronizedList(new ArrayList<>());
@@ -53,6 +56,9 @@ public class TriggerHandler {
 
     public TriggerHandler(final Game gameState) {
         game = gameState;
+        for (final TriggerType mode : TriggerType.values()) {
+            activeTriggers.put(mode, Collections.synchronizedList(new ArrayList<>()));
+        }
     }
 
     public final void registerDelayedTrigger(final Trigger trig) {
@@ -189,14 +195,18 @@ public class TriggerHandler {
         if (collect) {
             collectTriggerForWaiting();
         }
-        activeTriggers.clear();
+        for (final List<Trigger> bucket : activeTriggers.values()) {
+            bucket.clear();
+        }
+        activeTriggersByHost.clear();
+        activeTriggerIds.clear();
         game.forEachCardInGame(c -> {
             for (final Trigger t : c.getTriggers()) {
                 if (c.isInPlay() && lastStateBattlefield != null && !lastStateBattlefield.contains(c) && t.looksBackInTime()) {
                     continue;
                 }
                 if (isTriggerActive(t)) {
-                    activeTriggers.add(t);
+                    addActiveTrigger(t);
                 }
             }
             return true;
@@ -206,15 +216,30 @@ public class TriggerHandler {
     public final void clearActiveTriggers(final Card c, Zone zoneFrom) {
         final List<Trigger> toBeRemoved = Lists.newArrayList();
 
-        for (Trigger t : activeTriggers) {
+        for (Trigger t : activeTriggersByHost.get(c.getId())) {
             // Clear if no ZoneFrom, or not coming from the TriggerZone
-            if (c.getId() == t.getHostCard().getId()) {
-                if (!c.getTriggers().contains(t) || !t.zonesCheck(zoneFrom))
-                    toBeRemoved.add(t);
-            }
+            if (!c.getTriggers().contains(t) || !t.zonesCheck(zoneFrom))
+                toBeRemoved.add(t);
+        }
+
+        for (Trigger t : toBeRemoved) {
+            activeTriggers.get(t.getMode()).remove(t);
+            activeTriggersByHost.remove(c.getId(), t);
+            activeTriggerIds.remove(t.getId());
         }
+    }
+
+    private void addActiveTrigger(final Trigger t) {
+        activeTriggers.get(t.getMode()).add(t);
+        activeTriggersByHost.put(t.getHostCard().getId(), t);
+        activeTriggerIds.add(t.getId());
+    }
 
-        activeTriggers.removeAll(toBeRemoved);
+    /**
+     * @return a copy of the active triggers of the given mode, safe against registrations while they run
+     */
+    private List<Trigger> getActiveTriggers(final TriggerType mode) {
+        return new ArrayList<>(activeTriggers.get(mode));
     }
 
     public final void registerActiveTrigger(final Card c, final boolean onlyExtrinsic) {
@@ -235,7 +260,7 @@ public class TriggerHandler {
 
     public final boolean registerOneTrigger(final Trigger t) {
         if (isTriggerActive(t)) {
-            activeTriggers.add(t);
+            addActiveTrigger(t);
             return true;
         }
         return false;
@@ -263,7 +288,7 @@ public class TriggerHandler {
     }
 
     private void runStateTrigger(final Map<AbilityKey, Object> runParams) {
-        for (final Trigger t: Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t : getActiveTriggers(TriggerType.Always)) {
             if (canRunTrigger(t, TriggerType.Always, runParams)) {
                 runSingleTrigger(t, runParams);
             }
@@ -299,7 +324,7 @@ public class TriggerHandler {
         boolean checkStatics = false;
 
         // Static ones should happen first
-        for (final Trigger t : Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t : getActiveTriggers(mode)) {
             if (t.isStatic() && canRunTrigger(t, mode, runParams)) {
                 int trigAmt = 1 + StaticAbilityPanharmonicon.handlePanharmonicon(game, t, runParams);
                 for (int i = 0; i < trigAmt; ++i) {
@@ -323,7 +348,7 @@ public class TriggerHandler {
         }
 
         final boolean wasCollected = wt.getTriggers() != null;
-        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : activeTriggers;
+        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : getActiveTriggers(mode);
 
         // the trigger will be ordered later in MagicStack
         for (final Trigger t : triggers) {
@@ -372,11 +397,9 @@ public class TriggerHandler {
             return false; // Host card isn't where it needs to be.
         }
 
-        for (Trigger t : this.activeTriggers) {
-            // If an ID that matches this ID is already active, don't add it
-            if (regtrig.getId() == t.getId()) {
-                return false;
-            }
+        // If an ID that matches this ID is already active, don't add it
+        if (activeTriggerIds.contains(regtrig.getId())) {
+            return false;
         }
 
         return true;
@@ -583,7 +606,7 @@ public class TriggerHandler {
 
     public List<Trigger> getActiveTrigger(final TriggerType mode, final Map<AbilityKey, Object> runParams) {
         List<Trigger> trigger = Lists.newArrayList();
-        for (final Trigger t : activeTriggers) {
+        for (final Trigger t : getActiveTriggers(mode)) {
             if (canRunTrigger(t, mode, runParams)) {
                 trigger.add(t);
             }
@@ -33,7 +33,6 @@ import forge.game.event.EventValueChangeType;
 import forge.game.event.GameEventZone;
 import forge.game.player.Player;
 import forge.game.player.PlayerView;
-import forge.util.MyRandom;
 
 /**
  * <p>
@@ -259,7 +258,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     }
 
     public void shuffle() {
-        Collections.shuffle(cardList, MyRandom.getRandom());
+        Collections.shuffle(cardList, game.getRandom());
         onChanged();
     }
 
@@ -39,6 +39,10 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         return tracker;
     }
 
+    protected final boolean isHeadless() {
+        return tracker != null && tracker.isHeadless();
+    }
+
     @Override
     public int hashCode() {
         return id;
@@ -65,6 +69,14 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     }
 
     protected final <T> void set(final TrackableProperty key, final T value) {
+        if (isHeadless()) {
+            if (value == null || value.equals(key.getDefaultValue())) {
+                props.remove(key);
+            } else {
+                props.put(key, value);
+            }
+            return;
+        }
         if (tracker != null && tracker.isFrozen()) { //if trackable objects currently frozen, queue up delayed prop change
             boolean respectsFreeze = false;
             if (key.getFreezeMode() == TrackableProperty.FreezeMode.RespectsFreeze) {
@@ -109,6 +121,9 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     //use when updating collection type properties with using set
     protected final void flagAsChanged(final TrackableProperty key) {
+        if (isHeadless()) {
+            return;
+        }
         changedProps.add(key);
         key.updateObjLookup(tracker, props.get(key));
     }
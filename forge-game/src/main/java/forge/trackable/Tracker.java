@@ -10,6 +10,7 @@ import forge.trackable.TrackableTypes.TrackableType;
 
 public class Tracker {
     private int freezeCounter = 0;
+    private boolean headless = false;
     private final List<DelayedPropChange> delayedPropChanges = Lists.newArrayList();
 
     private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
@@ -18,6 +19,27 @@ public class Tracker {
         return freezeCounter > 0;
     }
 
+    /**
+     * A headless tracker belongs to a game nobody watches, like a simulated match or a copy made by the AI.
+     * Its objects still keep their current values, since the game itself reads some of them,
+     * but changes are neither delayed, recorded for syncing nor indexed for lookup.
+     */
+    public final boolean isHeadless() {
+        return headless;
+    }
+
+    public void setHeadless(final boolean headless) {
+        this.headless = headless;
+        if (headless) {
+            objLookups.clear();
+            // nothing waits for these to show up together anymore
+            for (final DelayedPropChange change : delayedPropChanges) {
+                change.object.set(change.prop, change.value);
+            }
+            delayedPropChanges.clear();
+        }
+    }
+
     public void freeze() {
         freezeCounter++;
     }
@@ -0,0 +1,46 @@
+package forge.game;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class GameLogTest {
+
+    @Test
+    public void testRetainsNewestEntries() {
+        GameLog log = new GameLog();
+        log.setMaxRetainedEntries(2);
+        log.add(GameLogEntryType.INFORMATION, "first");
+        log.add(GameLogEntryType.INFORMATION, "second");
+        log.add(GameLogEntryType.INFORMATION, "third");
+
+        List<GameLogEntry> entries = log.getLogEntries(null);
+        AssertJUnit.assertEquals(2, entries.size());
+        AssertJUnit.assertEquals("third", entries.get(0).message());
+        AssertJUnit.assertEquals("second", entries.get(1).message());
+    }
+
+    @Test
+    public void testReadWhileGameAddsEntries() throws InterruptedException {
+        GameLog log = new GameLog();
+        log.setMaxRetainedEntries(50);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread game = new Thread(() -> {
+            for (int i = 0; i < 200000; i++) {
+                log.add(GameLogEntryType.INFORMATION, "entry " + i);
+            }
+            done.set(true);
+        });
+        game.start();
+        // like the UI, which reads the log while the game goes on
+        while (!done.get()) {
+            AssertJUnit.assertTrue(log.getLogEntries(null).size() <= 50);
+            log.getLogEntriesForVerbosity(GameLogVerbosity.HIGH);
+            log.getLogEntriesExact(GameLogEntryType.INFORMATION);
+        }
+        game.join();
+        AssertJUnit.assertEquals("entry 199999", log.getLogEntries(null).get(0).message());
+    }
+}
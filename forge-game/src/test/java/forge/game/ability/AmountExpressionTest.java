@@ -0,0 +1,57 @@
+package forge.game.ability;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class AmountExpressionTest {
+
+    @Test
+    public void testSignedNumbers() {
+        AmountExpression plain = AmountExpression.of("3");
+        AssertJUnit.assertTrue(plain.isNumber);
+        AssertJUnit.assertTrue(plain.isSignedNumber);
+        AssertJUnit.assertEquals(3, plain.number);
+        AssertJUnit.assertEquals(1, plain.multiplier);
+
+        AmountExpression negative = AmountExpression.of("-2");
+        AssertJUnit.assertTrue(negative.isNumber);
+        AssertJUnit.assertFalse(negative.isSignedNumber);
+        AssertJUnit.assertEquals(-2, negative.number * negative.multiplier);
+
+        AmountExpression reference = AmountExpression.of("+X");
+        AssertJUnit.assertFalse(reference.isNumber);
+        AssertJUnit.assertEquals("X", reference.unsigned);
+    }
+
+    @Test
+    public void testCountParts() {
+        AmountExpression count = AmountExpression.of("Count$Valid Creature.YouCtrl/Plus.1");
+        AssertJUnit.assertEquals("Count", count.object);
+        AssertJUnit.assertEquals("Valid Creature.YouCtrl/Plus.1", count.property);
+        AssertJUnit.assertEquals("Plus.1", count.operators);
+        AssertJUnit.assertEquals("Valid Creature.YouCtrl", count.countHead);
+        AssertJUnit.assertEquals("Valid Creature", count.dotParts[0]);
+        AssertJUnit.assertNull(count.svarName);
+
+        AssertJUnit.assertEquals("Y", AmountExpression.of("Count$SVar$Y").svarName);
+        AssertJUnit.assertEquals("4", AmountExpression.of("Number$4").numberText);
+        AssertJUnit.assertNull(AmountExpression.of("X").property);
+    }
+
+    @Test
+    public void testSameTextIsShared() {
+        AssertJUnit.assertSame(AmountExpression.of("Count$CardPower"), AmountExpression.of(new String("Count$CardPower")));
+    }
+
+    @Test
+    public void testXMath() {
+        AssertJUnit.assertEquals(7, AbilityUtils.doXMath(5, "Plus.2", null, null));
+        AssertJUnit.assertEquals(-3, AbilityUtils.doXMath(5, "NMinus.2", null, null));
+        AssertJUnit.assertEquals(3, AbilityUtils.doXMath(5, "HalfUp", null, null));
+        AssertJUnit.assertEquals(2, AbilityUtils.doXMath(5, "HalfDown", null, null));
+        AssertJUnit.assertEquals(3, AbilityUtils.doXMath(5, "LimitMax.3", null, null));
+        AssertJUnit.assertEquals(5, AbilityUtils.doXMath(5, "LimitMin.3", null, null));
+        AssertJUnit.assertEquals(5, AbilityUtils.doXMath(5, "none", null, null));
+        AssertJUnit.assertEquals(5, AbilityUtils.doXMath(5, "Unknown.3", null, null));
+    }
+}
@@ -0,0 +1,57 @@
+package forge.game.card;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.card.ColorSet;
+import forge.card.MagicColor;
+
+public class CardRestrictionTest {
+
+    private static Card createCard(int id, String type, byte color) {
+        Card c = new Card(id, null);
+        c.addType(type);
+        c.setColor(ColorSet.fromMask(color));
+        return c;
+    }
+
+    @Test
+    public void testTypeAndColor() {
+        Card bear = createCard(1, "Creature", MagicColor.GREEN);
+
+        AssertJUnit.assertTrue(bear.isValid("Creature", null, null, null));
+        AssertJUnit.assertTrue(bear.isValid("Card.Green+nonLand", null, null, null));
+        AssertJUnit.assertFalse(bear.isValid("Creature.nonGreen", null, null, null));
+        AssertJUnit.assertFalse(bear.isValid("Land", null, null, null));
+        AssertJUnit.assertTrue(bear.isValid("!Land", null, null, null));
+        AssertJUnit.assertFalse(bear.isValid("!Creature.Green", null, null, null));
+        AssertJUnit.assertTrue(bear.isValid("Permanent.nonColorless", null, null, null));
+    }
+
+    @Test
+    public void testSelfAndTapped() {
+        Card bear = createCard(1, "Creature", MagicColor.GREEN);
+        Card other = createCard(2, "Creature", MagicColor.GREEN);
+
+        AssertJUnit.assertTrue(bear.isValid("Creature.Self", null, bear, null));
+        AssertJUnit.assertFalse(bear.isValid("Creature.Other", null, bear, null));
+        AssertJUnit.assertTrue(bear.isValid("Creature.Other+untapped", null, other, null));
+
+        bear.setTapped(true);
+        AssertJUnit.assertTrue(bear.hasProperty("tapped", null, null, null));
+        AssertJUnit.assertFalse(bear.hasProperty("!tapped", null, null, null));
+    }
+
+    @Test
+    public void testAnyIgnoresNegation() {
+        Card land = createCard(1, "Land", (byte) 0);
+
+        AssertJUnit.assertFalse(land.isValid("Any", null, null, null));
+        AssertJUnit.assertFalse(land.isValid("!Any", null, null, null));
+    }
+
+    @Test
+    public void testSameRestrictionIsShared() {
+        AssertJUnit.assertSame(CardRestriction.of("Creature.YouCtrl"), CardRestriction.of(new String("Creature.YouCtrl")));
+    }
+}
@@ -61,10 +61,10 @@ public final class Main {
                 CardReaderExperiments.parseAllCards(args);
                 break;
             case "server":
-                System.out.println("Dedicated server mode.\nNot implemented.");
+                SimulationServer.run(args);
                 break;
             default:
-                System.out.println("Unknown mode.\nKnown mode is 'sim', 'parse' ");
+                System.out.println("Unknown mode.\nKnown modes are 'sim', 'parse', 'server'");
                 break;
         }
         System.exit(0);
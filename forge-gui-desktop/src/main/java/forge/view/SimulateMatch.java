@@ -1,23 +1,40 @@
 package forge.view;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
+import org.apache.commons.lang3.tuple.Pair;
 import forge.LobbyPlayer;
 import forge.deck.Deck;
 import forge.deck.DeckGroup;
 import forge.deck.io.DeckSerializer;
 import forge.game.Game;
 import forge.game.GameEndReason;
+import forge.game.GameEventJsonWriter;
 import forge.game.GameLogEntry;
 import forge.game.GameLogEntryType;
+import forge.game.GameMemoryPolicy;
+import forge.game.GameOutcome;
 import forge.game.GameRules;
 import forge.game.GameType;
 import forge.game.Match;
@@ -40,9 +57,17 @@ public class SimulateMatch {
 
     public static void simulate(String[] args) {
         // We pass 'true' to tell the FModel that this is a simulation and not a GUI session.
-        FModel.initialize(null, null, true);
+        FModel.initialize(null, null, true, ArrayUtils.contains(args, "-lazy"));
         System.out.println("Simulation mode");
 
+        simulateWithLoadedModel(args);
+    }
+
+    /**
+     * Runs a simulation request against an already initialized {@link FModel}.
+     * Used by the persistent {@link SimulationServer} so the card database is only loaded once per JVM.
+     */
+    public static void simulateWithLoadedModel(String[] args) {
         if (args.length < 4) {
             argumentHelp();
             return;
@@ -81,7 +106,25 @@ public class SimulateMatch {
             matchSize = Integer.parseInt(params.get("m").get(0));
         }
 
+        int nThreads = 1;
+        if (params.containsKey("j")) {
+            nThreads = Math.max(1, Integer.parseInt(params.get("j").get(0)));
+        }
+
         boolean outputGamelog = !params.containsKey("q");
+        PrintStream logStream = null;
+        PrintStream eventStream = null;
+        try {
+            logStream = openOutput(params.get("s"));
+            eventStream = openOutput(params.get("e"));
+        } catch (FileNotFoundException e) {
+            System.err.println("Cannot open output file " + e.getMessage());
+            return;
+        }
+        int logRetention = -1;
+        if (params.containsKey("k")) {
+            logRetention = Integer.parseInt(params.get("k").get(0));
+        }
         GameType type = GameType.Constructed;
         if (params.containsKey("f")) {
             type = GameType.valueOf(WordUtil.capitalize(params.get("f").get(0)));
@@ -93,6 +136,12 @@ public class SimulateMatch {
             rules.setGamesPerMatch(matchSize);
         }
 
+        // always run seeded, so any game of the output can be replayed with -seed
+        final long seed = params.containsKey("seed") ? Long.parseLong(params.get("seed").get(0)) : new SecureRandom().nextLong();
+        rules.setSeed(seed);
+        // games follow each other immediately, so forcing a collection after each one only costs time
+        rules.setMemoryPolicy(params.containsKey("gc") ? GameMemoryPolicy.fromString(params.get("gc").get(0)) : GameMemoryPolicy.NONE);
+
         if (params.containsKey("t")) {
             simulateTournament(params, rules, outputGamelog);
             System.out.flush();
@@ -146,21 +195,122 @@ public class SimulateMatch {
 
         sb.append(" - ").append(Lang.nounWithNumeral(nGames, "game")).append(" of ").append(type);
         System.out.println(sb.toString());
+        System.out.println("Seed: " + seed);
 
-        Match mc = new Match(rules, pp, "Test");
+        simulateGames(rules, pp, nGames, matchSize, nThreads, outputGamelog, logStream, logRetention, eventStream);
+
+        System.out.flush();
+        if (logStream != null && logStream != System.out) {
+            logStream.close();
+        }
+        if (eventStream != null && eventStream != System.out) {
+            eventStream.close();
+        }
+    }
+
+    /**
+     * Plays a match of matchSize games, or else nGames independent games, on nThreads threads if there's more than one.
+     */
+    static void simulateGames(final GameRules rules, final List<RegisteredPlayer> pp, final int nGames, final int matchSize,
+            final int nThreads, final boolean outputGamelog, final PrintStream logStream, final int logRetention, final PrintStream eventStream) {
+        final boolean parallel = matchSize == 0 && nThreads > 1 && nGames > 1;
+        final LogOutput logOutput = new LogOutput(outputGamelog, logStream, logRetention, parallel, eventStream);
         if (matchSize != 0) {
+            Match mc = new Match(rules, pp, "Test");
             int iGame = 0;
             while (!mc.isMatchOver()) {
-                simulateSingleMatch(mc, iGame, outputGamelog);
+                simulateSingleMatch(mc, mc.createGame(), iGame, logOutput, System.out);
                 iGame++;
             }
+        } else if (parallel) {
+            simulateParallel(rules, pp, nGames, nThreads, logOutput);
         } else {
+            Match mc = new Match(rules, pp, "Test");
             for (int iGame = 0; iGame < nGames; iGame++) {
-                simulateSingleMatch(mc, iGame, outputGamelog);
+                simulateSingleMatch(mc, mc.createGame(), iGame, logOutput, System.out);
             }
         }
+    }
 
-        System.out.flush();
+    /**
+     * @return null if the option was not given, stdout if it was given without a file name, the opened file otherwise
+     */
+    private static PrintStream openOutput(final List<String> option) throws FileNotFoundException {
+        if (option == null) {
+            return null;
+        }
+        if (option.isEmpty()) {
+            return System.out;
+        }
+        return new PrintStream(new FileOutputStream(option.get(0), true), true, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * How the game log of a simulated game is written.
+     * @param full whether to write all entries or only the match results
+     * @param stream if set, entries are written here as they are produced instead of after the game
+     * @param retention the number of log entries kept in memory, negative for all
+     * @param tagGames whether streamed entries are prefixed with their game number, for interleaved parallel games
+     * @param events if set, game events are written here as JSON lines
+     */
+    private record LogOutput(boolean full, PrintStream stream, int retention, boolean tagGames, PrintStream events) {
+        boolean accepts(GameLogEntry entry) {
+            return full || entry.type().compareTo(GameLogEntryType.MATCH_RESULTS) <= 0;
+        }
+    }
+
+    /**
+     * Plays independent games concurrently on a bounded pool. Every game gets its own {@link Match},
+     * and its output is buffered so the merged log keeps the same per-game layout and ordering as a sequential run.
+     */
+    private static void simulateParallel(final GameRules rules, final List<RegisteredPlayer> players, final int nGames, final int nThreads, final LogOutput logOutput) {
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.min(nThreads, nGames));
+        final List<Future<Pair<String, GameOutcome>>> results = new ArrayList<>(nGames);
+        // same seed sequence as the games of a single sequential Match
+        final SplittableRandom gameSeeds = new SplittableRandom(rules.getSeed());
+        for (int iGame = 0; iGame < nGames; iGame++) {
+            final int gameNumber = iGame;
+            final long gameSeed = gameSeeds.nextLong();
+            results.add(pool.submit(() -> {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                final PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+                final Match mc = new Match(rules, players, "Test");
+                final Game game = simulateSingleMatch(mc, mc.createGame(gameSeed), gameNumber, logOutput, out);
+                out.flush();
+                return Pair.of(buffer.toString(StandardCharsets.UTF_8), game.getOutcome());
+            }));
+        }
+        pool.shutdown();
+
+        final Map<String, Integer> wins = new LinkedHashMap<>();
+        for (RegisteredPlayer rp : players) {
+            wins.put(rp.getPlayer().getName(), 0);
+        }
+        int draws = 0;
+        for (Future<Pair<String, GameOutcome>> result : results) {
+            try {
+                Pair<String, GameOutcome> game = result.get();
+                System.out.print(game.getLeft());
+                System.out.flush();
+                if (game.getRight() == null || game.getRight().isDraw()) {
+                    draws++;
+                } else {
+                    wins.merge(game.getRight().getWinningLobbyPlayer().getName(), 1, Integer::sum);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pool.shutdownNow();
+                return;
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+            }
+        }
+
+        System.out.println(TextUtil.concatNoSpace("Simulated ", Lang.nounWithNumeral(nGames, "game"), " on ", String.valueOf(Math.min(nThreads, nGames)), " threads"));
+        for (Map.Entry<String, Integer> e : wins.entrySet()) {
+            System.out.println(TextUtil.concatNoSpace(e.getKey(), ": ", String.valueOf(e.getValue()), " wins"));
+        }
+        System.out.println(TextUtil.concatNoSpace("Draws: ", String.valueOf(draws)));
     }
 
     private static void argumentHelp() {
@@ -168,21 +318,47 @@ public class SimulateMatch {
         System.out.println("\t-d: One or more deck names or filenames, separated by spaces.");
         System.out.println("\t-a: AI profiles for each deck, in corresponding order.");
         System.out.println("\t-n: Number of games to play (defaults to 1).");
+        System.out.println("\t-j: Number of games to play concurrently (defaults to 1).");
+        System.out.println("\t-seed: Seed for the game random generators, to reproduce earlier runs.");
         System.out.println("\t-q: Quiet mode (suppresses full game log).");
+        System.out.println("\t-s: Stream the game log as it happens, to stdout or to the given file.");
+        System.out.println("\t-k: Number of game log entries kept in memory (defaults to all).");
+        System.out.println("\t-e: Write game events as JSON lines, to stdout or to the given file.");
+        System.out.println("\t-gc: Garbage collection after each game: none (default), hint or full.");
+        System.out.println("\t-lazy: Only read the deck cards and the cards they refer to. Starts faster, but effects picking from all cards only see those.");
         // Add other arguments as needed
     }
 
     public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog) {
+        simulateSingleMatch(mc, mc.createGame(), iGame, new LogOutput(outputGamelog, null, -1, false, null), System.out);
+    }
+
+    private static Game simulateSingleMatch(final Match mc, final Game g1, int iGame, final LogOutput logOutput, final PrintStream out) {
+        // simulated matches have no GUI to show the card and player views
+        g1.setHeadless(true);
+        final PrintStream logStream = logOutput.stream();
+        if (logStream != null) {
+            final String prefix = logOutput.tagGames() ? TextUtil.concatNoSpace("Game ", String.valueOf(1 + iGame), ": ") : "";
+            g1.getGameLog().addSink(entry -> {
+                if (logOutput.accepts(entry)) {
+                    logStream.println(prefix + entry.message());
+                }
+            });
+        }
+        g1.getGameLog().setMaxRetainedEntries(logOutput.retention());
+        if (logOutput.events() != null) {
+            g1.subscribeToEvents(new GameEventJsonWriter(g1, logOutput.events()::println));
+        }
+
         final StopWatch sw = new StopWatch();
         sw.start();
-        final Game g1 = mc.createGame();
         try {
             TimeLimitedCodeBlock.runWithTimeout(() -> {
                 mc.startGame(g1);
                 sw.stop();
             }, mc.getRules().getSimTimeout(), TimeUnit.SECONDS);
         } catch (TimeoutException e) {
-            System.out.println("Stopping slow match as draw");
+            out.println("Stopping slow match as draw");
         } catch (Exception e) {
             e.printStackTrace();
         } finally {
@@ -194,23 +370,27 @@ public class SimulateMatch {
             }
         }
 
-        List<GameLogEntry> log;
-        if (outputGamelog) {
-            log = g1.getGameLog().getLogEntries(null);
-        } else {
-            log = g1.getGameLog().getLogEntries(GameLogEntryType.MATCH_RESULTS);
-        }
-        Collections.reverse(log);
-        for (GameLogEntry l : log) {
-            // Use getMessage() to ensure formatted output for all log types
-            System.out.println(l.getMessage());
+        if (logStream == null) {
+            List<GameLogEntry> log;
+            if (logOutput.full()) {
+                log = g1.getGameLog().getLogEntries(null);
+            } else {
+                log = g1.getGameLog().getLogEntries(GameLogEntryType.MATCH_RESULTS);
+            }
+            Collections.reverse(log);
+            for (GameLogEntry l : log) {
+                // Print the bare message to keep the output format independent of the entry type caption
+                out.println(l.message());
+            }
         }
 
+        out.printf("Game %d seed: %d%n", 1 + iGame, g1.getSeed());
         if (g1.getOutcome().isDraw()) {
-            System.out.printf("\nGame Result: Game %d ended in a Draw! Took %d ms.%n", 1 + iGame, sw.getTime());
+            out.printf("\nGame Result: Game %d ended in a Draw! Took %d ms.%n", 1 + iGame, sw.getTime());
         } else {
-            System.out.printf("\nGame Result: Game %d ended in %d ms. %s has won!\n\n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName());
+            out.printf("\nGame Result: Game %d ended in %d ms. %s has won!\n\n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName());
         }
+        return g1;
     }
 
     private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog) {
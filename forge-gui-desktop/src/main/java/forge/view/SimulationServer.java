@@ -0,0 +1,141 @@
+package forge.view;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import forge.model.FModel;
+
+/**
+ * Long-lived headless simulation server.
+ * <p>
+ * The card database, editions, formats and AI profiles are loaded once on startup. Afterwards every
+ * request line is handled exactly like the arguments of a {@code sim} invocation, e.g.
+ * <pre>sim -d deck1.dck deck2.dck -a Default Reckless -n 1</pre>
+ * The output of each request is terminated by a line containing {@link #RESPONSE_END}.
+ * <p>
+ * Requests are read from stdin by default, or from a loopback socket when started with {@code -p <port>}.
+ * Connections are served one at a time, so game output never interleaves between clients.
+ */
+public final class SimulationServer {
+
+    public static final String RESPONSE_READY = "Server ready";
+    public static final String RESPONSE_END = "Request complete";
+
+    private SimulationServer() {
+    }
+
+    public static void run(String[] args) {
+        int port = -1;
+        for (int i = 1; i < args.length; i++) {
+            if ("-p".equals(args[i]) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            }
+        }
+
+        FModel.initialize(null, null, true);
+
+        if (port < 0) {
+            System.out.println(RESPONSE_READY);
+            System.out.flush();
+            serve(System.in, System.out);
+            return;
+        }
+
+        try (ServerSocket server = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+            System.out.println(RESPONSE_READY + " on port " + server.getLocalPort());
+            System.out.flush();
+            while (true) {
+                try (Socket client = server.accept()) {
+                    if (!serve(client.getInputStream(), client.getOutputStream())) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Handles request lines until the stream ends or a shutdown command is received.
+     * @return false if the server was asked to shut down
+     */
+    private static boolean serve(InputStream in, OutputStream out) {
+        final PrintStream stdout = System.out;
+        final PrintStream response = out instanceof PrintStream ? (PrintStream) out : new PrintStream(out, true, StandardCharsets.UTF_8);
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> request = tokenize(line);
+                if (request.isEmpty()) {
+                    continue;
+                }
+                String command = request.get(0).toLowerCase();
+                if ("quit".equals(command) || "exit".equals(command)) {
+                    return false;
+                }
+
+                // SimulateMatch reports through System.out, so route it to the requesting client
+                System.setOut(response);
+                try {
+                    if ("sim".equals(command)) {
+                        SimulateMatch.simulateWithLoadedModel(request.toArray(new String[0]));
+                    } else if (!"ping".equals(command)) {
+                        System.out.println("Unknown request.\nKnown requests are 'sim', 'ping', 'quit'");
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace(response);
+                } finally {
+                    System.setOut(stdout);
+                }
+                response.println(RESPONSE_END);
+                response.flush();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return true;
+    }
+
+    /**
+     * Splits a request line on whitespace, keeping double quoted sections (deck names with spaces) together.
+     */
+    static List<String> tokenize(String line) {
+        final List<String> result = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        boolean token = false;
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+                token = true;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (token) {
+                    result.add(sb.toString());
+                    sb.setLength(0);
+                    token = false;
+                }
+            } else {
+                sb.append(c);
+                token = true;
+            }
+        }
+        if (token) {
+            result.add(sb.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package forge;
+
+import forge.util.BoundedCache;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testComputesOncePerKey() {
+        AtomicInteger computed = new AtomicInteger();
+        BoundedCache<String, StringBuilder> cache = new BoundedCache<>(10, key -> {
+            computed.incrementAndGet();
+            return new StringBuilder(key);
+        });
+
+        StringBuilder first = cache.get("a");
+        assertSame(cache.get("a"), first);
+        cache.get("b");
+        assertEquals(computed.get(), 2);
+        assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testStartsOverWhenFull() {
+        AtomicInteger computed = new AtomicInteger();
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(3, key -> {
+            computed.incrementAndGet();
+            return key * 2;
+        });
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(i);
+        }
+        assertEquals(cache.size(), 3);
+        assertEquals(cache.get(3).intValue(), 6);
+        assertEquals(cache.size(), 1);
+        // the earlier keys are computed again
+        assertEquals(cache.get(0).intValue(), 0);
+        assertEquals(computed.get(), 5);
+    }
+}
@@ -0,0 +1,107 @@
+package forge;
+
+import forge.ai.AITest;
+import forge.card.CardRules;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class CardScriptSnapshotTest extends AITest {
+
+    private static List<CardScriptSnapshot.Script> createScripts() {
+        List<CardScriptSnapshot.Script> scripts = new ArrayList<>();
+        scripts.add(new CardScriptSnapshot.Script("cardsfolder/g/grizzly_bears.txt", "grizzly_bears",
+                List.of("Name:Grizzly Bears", "ManaCost:1 G", "Types:Creature Bear", "PT:2/2", "Oracle:")));
+        scripts.add(new CardScriptSnapshot.Script("cardsfolder/j/jotun_grunt.txt", "jotun_grunt",
+                List.of("Name:Jötun Grunt", "Oracle:Cumulative upkeep—Put two cards from a single graveyard on the bottom of their owner's library.")));
+        // longer than writeUTF can take, lines of generated scripts can get there
+        scripts.add(new CardScriptSnapshot.Script("cardsfolder/l/long.txt", "long",
+                List.of("SVar:X:" + "Count$Valid Card.namedÆther Vial+".repeat(3000), "")));
+        scripts.add(new CardScriptSnapshot.Script("cardsfolder/e/empty.txt", "empty", Collections.emptyList()));
+        return scripts;
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        File snapshot = File.createTempFile("cards", ".bin");
+        snapshot.deleteOnExit();
+        List<CardScriptSnapshot.Script> scripts = createScripts();
+
+        CardScriptSnapshot.write(snapshot, 42, scripts);
+        assertEquals(CardScriptSnapshot.read(snapshot, 42), scripts);
+        assertNull(CardScriptSnapshot.read(snapshot, 43));
+    }
+
+    @Test
+    public void testTruncatedOrCorruptSnapshotIsIgnored() throws IOException {
+        File snapshot = File.createTempFile("cards", ".bin");
+        snapshot.deleteOnExit();
+        CardScriptSnapshot.write(snapshot, 42, createScripts());
+
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            file.setLength(file.length() / 2);
+        }
+        assertNull(CardScriptSnapshot.read(snapshot, 42));
+
+        // the header is fine, but the script count is far more than the file holds
+        CardScriptSnapshot.write(snapshot, 42, createScripts());
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            file.seek(16);
+            file.writeInt(Integer.MAX_VALUE);
+        }
+        assertNull(CardScriptSnapshot.read(snapshot, 42));
+
+        Files.write(snapshot.toPath(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        assertNull(CardScriptSnapshot.read(snapshot, 42));
+    }
+
+    private static List<String> loadCardNames(File cardsFolder, File snapshot) {
+        List<String> names = new ArrayList<>();
+        for (CardRules rules : new CardStorageReader(cardsFolder.getPath(), null, false, snapshot).loadCards()) {
+            names.add(rules.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testChangedScriptRewritesSnapshot() throws IOException {
+        // for the Localizer
+        initAndCreateGame();
+        File cardsFolder = Files.createTempDirectory("cardsfolder").toFile();
+        File script = new File(cardsFolder, "test_card.txt");
+        File snapshot = new File(cardsFolder.getParentFile(), cardsFolder.getName() + ".bin");
+        script.deleteOnExit();
+        cardsFolder.deleteOnExit();
+        snapshot.deleteOnExit();
+
+        Files.write(script.toPath(), List.of("Name:Test Card", "ManaCost:G", "Types:Creature Bear", "PT:2/2", "Oracle:"));
+        long lastModified = script.lastModified();
+        long fingerprint = CardScriptSnapshot.fingerprint(List.of(script), null);
+        assertEquals(loadCardNames(cardsFolder, snapshot), List.of("Test Card"));
+        assertNotNull(CardScriptSnapshot.read(snapshot, fingerprint));
+
+        // as long as the fingerprint is the same, the snapshot is read instead of the script
+        Files.write(script.toPath(), List.of("Name:Best Card", "ManaCost:G", "Types:Creature Bear", "PT:2/2", "Oracle:"));
+        script.setLastModified(lastModified);
+        assertEquals(loadCardNames(cardsFolder, snapshot), List.of("Test Card"));
+
+        script.setLastModified(lastModified + 2000);
+        long changedFingerprint = CardScriptSnapshot.fingerprint(List.of(script), null);
+        assertNotEquals(changedFingerprint, fingerprint);
+        assertEquals(loadCardNames(cardsFolder, snapshot), List.of("Best Card"));
+        assertNull(CardScriptSnapshot.read(snapshot, fingerprint));
+        assertNotNull(CardScriptSnapshot.read(snapshot, changedFingerprint));
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 public class FCollectionTest {
     /**
@@ -60,4 +61,53 @@ public class FCollectionTest {
         futures.clear();
         assertEquals(cc.size(), 2);
     }
+
+    @Test
+    void testGetReturnsStoredInstance() {
+        Card stored = new Card(7, null);
+        CardCollection cc = new CardCollection();
+        for (int i = 1; i < 10; i++)
+            cc.add(i == 7 ? stored : new Card(i, null));
+        // equal by id, like a card and its last known information
+        Card lookup = new Card(7, null);
+        assertSame(cc.get(lookup), stored);
+        Card missing = new Card(42, null);
+        assertSame(cc.get(missing), missing);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkLkiLookup() {
+        int nRuns = 20;
+        for (int boardSize : new int[] {50, 200, 1000}) {
+            List<Card> board = new ArrayList<>();
+            for (int i = 1; i <= boardSize; i++)
+                board.add(new Card(i, null));
+            CardCollection lki = new CardCollection(board);
+
+            long linearTime = 0;
+            long indexedTime = 0;
+            for (int r = 0; r < nRuns; r++) {
+                // one lookup per card, as checkStaticAbilities does for its preList
+                long start = System.nanoTime();
+                for (Card c : board) {
+                    Card found = c;
+                    for (Card x : lki) {
+                        if (x.equals(c)) {
+                            found = x;
+                            break;
+                        }
+                    }
+                    assertSame(found, c);
+                }
+                linearTime += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (Card c : board)
+                    assertSame(lki.get(c), c);
+                indexedTime += System.nanoTime() - start;
+            }
+            System.out.println("[LKI " + boardSize + " cards] Linear scan (in ms): " + linearTime / nRuns / 1e6);
+            System.out.println("[LKI " + boardSize + " cards] Indexed get (in ms): " + indexedTime / nRuns / 1e6);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package forge;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.AITest;
+import forge.card.CardRules;
+import forge.localinstance.properties.ForgeConstants;
+
+public class StaticDataTest extends AITest {
+
+    private static Set<String> relatedCardNames(String scriptFile) throws IOException {
+        File script = new File(ForgeConstants.CARD_DATA_DIR, scriptFile);
+        CardRules rules = CardRules.fromScript(Files.readAllLines(script.toPath(), StandardCharsets.UTF_8));
+        return StaticData.relatedCardNames(rules);
+    }
+
+    @Test
+    public void testRelatedCardNamesAreDecoded() throws IOException {
+        // for the Localizer
+        initAndCreateGame();
+
+        // Creature.YouCtrl+namedGruff_Triplets
+        AssertJUnit.assertTrue(relatedCardNames("g/gruff_triplets.txt").contains("Gruff Triplets"));
+        // Count$TotalDamageThisTurn Card.Other+namedBlazing_Effigy/Plus.3
+        AssertJUnit.assertTrue(relatedCardNames("b/blazing_effigy.txt").contains("Blazing Effigy"));
+        // Card.YouOwn+namedBasri; Devoted Paladin
+        AssertJUnit.assertTrue(relatedCardNames("b/basris_aegis.txt").contains("Basri, Devoted Paladin"));
+        // Spellbook$ Emergence Zone,...,Boseiju; Who Endures,...
+        Set<String> spellbook = relatedCardNames("b/boseiju_pathlighter.txt");
+        AssertJUnit.assertTrue(spellbook.contains("Emergence Zone"));
+        AssertJUnit.assertTrue(spellbook.contains("Boseiju, Who Endures"));
+        // Name$ Marwyn, the Nurturer holds a single name
+        Set<String> conjured = relatedCardNames("m/marwyns_kindred.txt");
+        AssertJUnit.assertTrue(conjured.contains("Marwyn, the Nurturer"));
+        AssertJUnit.assertTrue(conjured.contains("Llanowar Elves"));
+        AssertJUnit.assertFalse(conjured.contains("Marwyn"));
+    }
+}
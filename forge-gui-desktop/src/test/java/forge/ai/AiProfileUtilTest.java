@@ -0,0 +1,17 @@
+package forge.ai;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class AiProfileUtilTest extends AITest {
+
+    @Test
+    public void testRandomProfileLeavesOutSimulationProfiles() {
+        initAndCreateGame();
+        AssertJUnit.assertTrue(AiProfileUtil.getAvailableProfiles().contains("MonteCarlo"));
+
+        for (int i = 0; i < 200; i++) {
+            AssertJUnit.assertFalse("MonteCarlo".equals(AiProfileUtil.getRandomProfile()));
+        }
+    }
+}
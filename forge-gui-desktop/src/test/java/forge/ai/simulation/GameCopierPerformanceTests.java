@@ -0,0 +1,75 @@
+package forge.ai.simulation;
+
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class GameCopierPerformanceTests extends SimulationTest {
+
+    private static final int N_COPIES = 200;
+    private static final int N_DECISIONS = 3;
+
+    private Game createBoard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        p.setTeam(0);
+        opponent.setTeam(1);
+
+        addCards("Mountain", 5, p);
+        addCards("Forest", 2, p);
+        addCard("Grizzly Bears", p);
+        for (String name : new String[] {"Lightning Bolt", "Shock", "Hill Giant", "Giant Growth"}) {
+            addCardToZone(name, p, ZoneType.Hand);
+        }
+        for (String name : new String[] {"Serra Angel", "Llanowar Elves", "Hill Giant", "Grizzly Bears"}) {
+            addCard(name, opponent);
+        }
+        for (Player player : game.getPlayers()) {
+            for (int i = 0; i < 40; i++) {
+                addCardToZone(i % 3 == 0 ? "Forest" : "Grizzly Bears", player, ZoneType.Library);
+            }
+        }
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkCopies() {
+        Game game = createBoard();
+        Player p = game.getPlayers().get(1);
+
+        // warm up before measuring
+        for (int i = 0; i < N_COPIES / 4; i++) {
+            new GameCopier(game).makeCopy(null, p);
+        }
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < N_COPIES; i++) {
+            new GameCopier(game).makeCopy(null, p);
+        }
+        long copies = Math.max(1, System.currentTimeMillis() - start);
+
+        GameStateEvaluator eval = new GameStateEvaluator();
+        start = System.currentTimeMillis();
+        for (int i = 0; i < N_COPIES; i++) {
+            eval.getScoreForGameState(game, p);
+        }
+        long evaluations = Math.max(1, System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        for (int i = 0; i < N_DECISIONS; i++) {
+            new SpellAbilityPicker(game, p).chooseSpellAbilityToPlay(null);
+        }
+        long decisions = System.currentTimeMillis() - start;
+
+        System.out.println("[COPY] Copies per second of a game with " + game.getCardsInGame().size() + " cards: " + N_COPIES * 1000.0 / copies);
+        System.out.println("[COPY] Evaluations per second: " + N_COPIES * 1000.0 / evaluations);
+        System.out.println("[COPY] Milliseconds per decision: " + decisions / N_DECISIONS);
+    }
+}
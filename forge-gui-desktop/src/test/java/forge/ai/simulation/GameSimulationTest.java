@@ -15,6 +15,7 @@ import forge.game.phase.PhaseType;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
 import forge.game.zone.ZoneType;
+import forge.util.SeededRandom;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
@@ -521,6 +522,28 @@ public class GameSimulationTest extends SimulationTest {
         AssertJUnit.assertEquals(3, bearCopy.getNetToughness());
     }
 
+    @Test
+    public void testCopyDoesNotAdvanceGameRandom() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        addCard("Runeclaw Bear", p);
+        addCards("Forest", 10, p);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        // making copies must not change what the game draws next, or the same seed would play out differently
+        game.setRandom(new SeededRandom(42));
+        for (int i = 0; i < 3; i++) {
+            Game copy = new GameCopier(game).makeCopy(null, p);
+            AssertJUnit.assertNotSame(game.getRandom(), copy.getRandom());
+        }
+
+        SeededRandom expected = new SeededRandom(42);
+        for (int i = 0; i < 10; i++) {
+            AssertJUnit.assertEquals(expected.nextLong(), game.getRandom().nextLong());
+        }
+    }
+
     @Test
     public void testDarkDepthsCopy() {
         Game game = initAndCreateGame();
@@ -0,0 +1,70 @@
+package forge.ai.simulation;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CounterEnumType;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class GameStateHashTest extends SimulationTest {
+
+    private Game createBoard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        addCards("Mountain", 3, p);
+        addCard("Grizzly Bears", p).setSickness(false);
+        addCardToZone("Shock", p, ZoneType.Hand);
+        addCard("Hill Giant", opponent);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    @Test
+    public void testCopyHashesTheSame() {
+        Game game = createBoard();
+        Player p = game.getPlayers().get(1);
+
+        GameCopier copier = new GameCopier(game);
+        Game copy = copier.makeCopy();
+        Player pCopy = (Player) copier.find(p);
+
+        AssertJUnit.assertEquals(GameStateHash.of(game, p), GameStateHash.of(copy, pCopy));
+    }
+
+    @Test
+    public void testChangesChangeTheHash() {
+        Game game = createBoard();
+        Player p = game.getPlayers().get(1);
+        Card bears = findCardWithName(game, "Grizzly Bears");
+
+        long hash = GameStateHash.of(game, p);
+        bears.setTapped(true);
+        long tapped = GameStateHash.of(game, p);
+        AssertJUnit.assertTrue(hash != tapped);
+
+        bears.setTapped(false);
+        AssertJUnit.assertEquals(hash, GameStateHash.of(game, p));
+
+        bears.addCounterInternal(CounterEnumType.P1P1, 1, p, false, null, null);
+        AssertJUnit.assertTrue(hash != GameStateHash.of(game, p));
+    }
+
+    @Test
+    public void testIdenticalCardsDontCancelOut() {
+        Game game = createBoard();
+        Player p = game.getPlayers().get(1);
+
+        long hash = GameStateHash.of(game, p);
+        addCard("Mountain", p);
+        long oneMore = GameStateHash.of(game, p);
+        addCard("Mountain", p);
+
+        AssertJUnit.assertTrue(hash != oneMore);
+        AssertJUnit.assertTrue(oneMore != GameStateHash.of(game, p));
+    }
+}
@@ -0,0 +1,184 @@
+package forge.ai.simulation;
+
+import java.util.List;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.LobbyPlayerAi;
+import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+import forge.util.MyRandom;
+
+public class MonteCarloTreeSearchTest extends SimulationTest {
+
+    private static void useMonteCarloProfile(Player p) {
+        ((LobbyPlayerAi) p.getLobbyPlayer()).setAiProfile("MonteCarlo");
+    }
+
+    @Test
+    public void testPickingLethalDamage() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        p.setTeam(0);
+        useMonteCarloProfile(p);
+
+        addCard("Mountain", p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(0);
+        opponent.setTeam(1);
+
+        addCard("Runeclaw Bear", opponent);
+        opponent.setLife(2, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbilityPicker picker = new SpellAbilityPicker(game, p);
+        SpellAbility sa = picker.chooseSpellAbilityToPlay(null);
+        AssertJUnit.assertNotNull(sa);
+        AssertJUnit.assertNull(sa.getTargetCard());
+        AssertJUnit.assertEquals(opponent, sa.getTargets().getFirstTargetedPlayer());
+    }
+
+    @Test
+    public void testPickingKillingCreature() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        useMonteCarloProfile(p);
+
+        addCard("Mountain", p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(0);
+        Card bearCard = addCard("Runeclaw Bear", opponent);
+        opponent.setLife(20, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbilityPicker picker = new SpellAbilityPicker(game, p);
+        SpellAbility sa = picker.chooseSpellAbilityToPlay(null);
+        AssertJUnit.assertNotNull(sa);
+        AssertJUnit.assertEquals(bearCard, sa.getTargetCard());
+    }
+
+    @Test
+    public void testCandidateWithManyChoicesDoesNotOutlastBudget() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+
+        addCards("Mountain", 2, p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+        addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        // more targets for each spell than the tree holds nodes
+        addCards("Runeclaw Bear", 100, opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        List<SpellAbility> candidates = new SpellAbilityPicker(game, p).getCandidateSpellsAndAbilities();
+        AssertJUnit.assertEquals(2, candidates.size());
+        Score origScore = new GameStateEvaluator().getScoreForGameState(game, p);
+        MonteCarloTreeSearch search = new MonteCarloTreeSearch(game, p, new TranspositionTable(),
+                new SimulationBudget(0, 1), SimulationController.DEFAULT_MAX_DEPTH, 50, 1);
+        Plan plan = search.search(origScore, candidates);
+
+        // passing and the first spell fill the tree, the used up budget then ends the search
+        // instead of the playouts going on up to the limit
+        AssertJUnit.assertNotNull(plan);
+        AssertJUnit.assertEquals(2, search.getPlayouts());
+    }
+
+    private Game createBenchmarkBoard(int opponentLife) {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        p.setTeam(0);
+        opponent.setTeam(1);
+
+        addCards("Mountain", 5, p);
+        addCards("Forest", 2, p);
+        addCard("Grizzly Bears", p).setSickness(false);
+        for (String name : new String[] {"Lightning Bolt", "Shock", "Hill Giant", "Giant Growth"}) {
+            addCardToZone(name, p, ZoneType.Hand);
+        }
+        for (String name : new String[] {"Serra Angel", "Llanowar Elves", "Hill Giant", "Grizzly Bears"}) {
+            addCard(name, opponent);
+        }
+        for (int i = 0; i < 10; i++) {
+            addCardToZone("Mountain", p, ZoneType.Library);
+            addCardToZone("Plains", opponent, ZoneType.Library);
+        }
+        opponent.setLife(opponentLife, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    private static String searchWithSeed(Game game, Player p, long seed) {
+        List<SpellAbility> candidates = new SpellAbilityPicker(game, p).getCandidateSpellsAndAbilities();
+        Score origScore = new GameStateEvaluator().getScoreForGameState(game, p);
+        MonteCarloTreeSearch search = new MonteCarloTreeSearch(game, p, new TranspositionTable(),
+                SimulationBudget.unlimited(), SimulationController.DEFAULT_MAX_DEPTH, 30, 1);
+        Random origRandom = MyRandom.bindToThread(new Random(seed));
+        try {
+            Plan plan = search.search(origScore, candidates);
+            AssertJUnit.assertEquals(30, search.getPlayouts());
+            return plan == null ? "pass" : plan.getDecisions().get(0) + " " + plan.getFinalScore().value;
+        } finally {
+            MyRandom.bindToThread(origRandom);
+        }
+    }
+
+    @Test
+    public void testSameSeedSearchesTheSame() {
+        Game game = createBenchmarkBoard(10);
+        Player p = game.getPlayers().get(1);
+
+        AssertJUnit.assertEquals(searchWithSeed(game, p, 42), searchWithSeed(game, p, 42));
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkPlayouts() {
+        final int playouts = 200;
+        final int[] opponentLives = {20, 10, 5};
+        final int[] threadCounts = {1, Runtime.getRuntime().availableProcessors()};
+
+        for (int opponentLife : opponentLives) {
+            Game game = createBenchmarkBoard(opponentLife);
+            Player p = game.getPlayers().get(1);
+
+            SpellAbilityPicker picker = new SpellAbilityPicker(game, p);
+            long start = System.currentTimeMillis();
+            picker.chooseSpellAbilityToPlay(null);
+            long exhaustiveTime = System.currentTimeMillis() - start;
+            Plan exhaustive = picker.getPlan();
+            String expected = exhaustive == null ? "pass" : exhaustive.getDecisions().get(0).toString();
+            System.out.println("Opponent at " + opponentLife + " life, exhaustive search in " + exhaustiveTime + " ms: " + expected);
+
+            for (int threads : threadCounts) {
+                List<SpellAbility> candidates = picker.getCandidateSpellsAndAbilities();
+                Score origScore = new GameStateEvaluator().getScoreForGameState(game, p);
+                MonteCarloTreeSearch search = new MonteCarloTreeSearch(game, p, new TranspositionTable(),
+                        SimulationBudget.unlimited(), SimulationController.DEFAULT_MAX_DEPTH, playouts, threads);
+                start = System.currentTimeMillis();
+                Plan plan = search.search(origScore, candidates);
+                long time = Math.max(1, System.currentTimeMillis() - start);
+                String chosen = plan == null ? "pass" : plan.getDecisions().get(0).toString();
+                System.out.println(String.format("  %d thread(s): %d playouts in %d ms (%.1f playouts/s), %s exhaustive search: %s",
+                        threads, search.getPlayouts(), time, search.getPlayouts() * 1000.0 / time,
+                        chosen.equals(expected) ? "same as" : "differs from", chosen));
+            }
+        }
+    }
+}
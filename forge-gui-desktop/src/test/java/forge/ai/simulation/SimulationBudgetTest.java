@@ -0,0 +1,82 @@
+package forge.ai.simulation;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class SimulationBudgetTest {
+
+    @Test
+    public void testUnlimited() {
+        SimulationBudget budget = SimulationBudget.unlimited();
+        for (int i = 0; i < 1000; i++) {
+            budget.countSimulation();
+        }
+        AssertJUnit.assertFalse(budget.isExhausted());
+        AssertJUnit.assertEquals(1000, budget.getSimulations());
+    }
+
+    @Test
+    public void testMaxSimulations() {
+        SimulationBudget budget = new SimulationBudget(0, 3);
+        budget.countSimulation();
+        budget.countSimulation();
+        AssertJUnit.assertFalse(budget.isExhausted());
+        budget.countSimulation();
+        AssertJUnit.assertTrue(budget.isExhausted());
+    }
+
+    @Test
+    public void testDeadline() throws InterruptedException {
+        SimulationBudget budget = new SimulationBudget(20, 0);
+        AssertJUnit.assertFalse(budget.isExhausted());
+        Thread.sleep(30);
+        AssertJUnit.assertTrue(budget.isExhausted());
+    }
+
+    @Test
+    public void testNextSearchSharesSimulationsButNotWin() {
+        SimulationBudget budget = new SimulationBudget(0, 2);
+        budget.countSimulation();
+        budget.setWinFound();
+
+        SimulationBudget next = budget.forNextSearch();
+        AssertJUnit.assertFalse(next.isWinFound());
+        AssertJUnit.assertEquals(1, next.getSimulations());
+        next.countSimulation();
+        AssertJUnit.assertTrue(next.isExhausted());
+        AssertJUnit.assertTrue(budget.isExhausted());
+    }
+
+    @Test
+    public void testCancelStopsEverySearch() {
+        SimulationBudget budget = SimulationBudget.unlimited();
+        SimulationBudget next = budget.forNextSearch();
+        budget.cancel();
+        AssertJUnit.assertTrue(next.isCancelled());
+        AssertJUnit.assertTrue(next.isExhausted());
+    }
+
+    @Test
+    public void testInterruptedWaitCancelsWorkers() throws InterruptedException {
+        SimulationBudget budget = SimulationBudget.unlimited();
+        CountDownLatch running = new CountDownLatch(1);
+        Future<Void> worker = CompletableFuture.runAsync(() -> {
+            running.countDown();
+            while (!budget.isCancelled()) {
+                Thread.onSpinWait();
+            }
+        });
+        running.await();
+
+        Thread.currentThread().interrupt();
+        budget.awaitWorkers(List.of(worker));
+        // the interrupt is kept for whoever waits on this thread
+        AssertJUnit.assertTrue(Thread.interrupted());
+        AssertJUnit.assertTrue(worker.isDone());
+    }
+}
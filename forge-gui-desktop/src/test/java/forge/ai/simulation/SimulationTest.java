@@ -36,6 +36,7 @@ public class SimulationTest extends AITest {
         Game game = new Game(players, rules, match);
         game.setAge(GameStage.Play);
         game.EXPERIMENTAL_RESTORE_SNAPSHOT = false;
+        GameSimulator.CHECK_GAME_COPIES = true;
         game.AI_TIMEOUT = FModel.getPreferences().getPrefInt(FPref.MATCH_AI_TIMEOUT);
         game.AI_CAN_USE_TIMEOUT = true; //Only Android is restricted according to API Level
 
@@ -10,6 +10,7 @@ import forge.model.FModel;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
+import forge.ai.simulation.GameStateEvaluator.Score;
 import forge.game.Game;
 import forge.game.card.Card;
 import forge.game.card.CounterEnumType;
@@ -632,6 +633,32 @@ public class SpellAbilityPickerSimulationTest extends SimulationTest {
         AssertJUnit.assertEquals(blocker, sa.getTargetCard());
     }
 
+    @Test
+    public void testModalAttackTriggerDoesNotChangeChoices() {
+        // Scoring the simulated game plays combat out on it, the modes chosen for the attack trigger
+        // there aren't choices of the spell being evaluated.
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        opponent.setLife(2, null);
+
+        Card blocker = addCard("Fugitive Wizard", opponent);
+        Card attacker = addCard("Galadriel, Gift-Giver", p);
+        attacker.setSickness(false);
+        addCards("Swamp", 2, p);
+        addCardToZone("Doom Blade", p, ZoneType.Hand);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbilityPicker picker = new SpellAbilityPicker(game, p);
+        SpellAbility sa = picker.chooseSpellAbilityToPlay(null);
+        AssertJUnit.assertNotNull(sa);
+        AssertJUnit.assertEquals("Destroy target nonblack creature.", sa.toString());
+        AssertJUnit.assertEquals(blocker, sa.getTargetCard());
+        AssertJUnit.assertNull(picker.getPlan().getDecisions().get(0).modes);
+    }
+
     // Run the test 100 times to ensure there's no flakiness.
     @Test(invocationCount = 100)
     public void testChoicesResultingFromRandomEffects() {
@@ -897,4 +924,93 @@ public class SpellAbilityPickerSimulationTest extends SimulationTest {
         game.getAction().checkStateEffects(true);
         AssertJUnit.assertNull(picker.chooseSpellAbilityToPlay(null));
     }
+
+    private Game createTwoBurnSpellsBoard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+
+        addCards("Mountain", 2, p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+        addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        addCard("Runeclaw Bear", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    private static Plan formulatePlan(Game game, Player p, SimulationBudget budget, int minDepth, int maxDepth) {
+        SpellAbilityPicker picker = new SpellAbilityPicker(game, p);
+        Score origScore = new GameStateEvaluator().getScoreForGameState(game, p);
+        return picker.formulatePlanWithPhase(origScore, picker.getCandidateSpellsAndAbilities(), null, budget, minDepth, maxDepth);
+    }
+
+    @Test
+    public void testExhaustedBudgetKeepsPlanOfLastIteration() {
+        Game game = createTwoBurnSpellsBoard();
+        Player p = game.getPlayers().get(1);
+
+        SimulationBudget firstIteration = SimulationBudget.unlimited();
+        Plan shallow = formulatePlan(game, p, firstIteration, 0, 0);
+        Plan deep = formulatePlan(game, p, SimulationBudget.unlimited(), 0, 3);
+        AssertJUnit.assertEquals(1, shallow.getDecisions().size());
+        AssertJUnit.assertEquals(2, deep.getDecisions().size());
+
+        // used up by the first iteration, the deeper ones don't start
+        SimulationBudget budget = new SimulationBudget(0, firstIteration.getSimulations());
+        Plan plan = formulatePlan(game, p, budget, 0, 3);
+        AssertJUnit.assertEquals(shallow.getDecisions().toString(), plan.getDecisions().toString());
+        AssertJUnit.assertEquals(firstIteration.getSimulations(), budget.getSimulations());
+    }
+
+    private Game createBurnAndCreatureBoard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+
+        addCards("Mountain", 4, p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+        addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        addCardToZone("Gray Ogre", p, ZoneType.Hand);
+        addCard("Runeclaw Bear", opponent);
+        addCard("Hill Giant", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    @Test
+    public void testIterativeDeepeningFindsPlanOfFixedDepth() {
+        Game game = createBurnAndCreatureBoard();
+        Player p = game.getPlayers().get(1);
+
+        Plan fixed = formulatePlan(game, p, SimulationBudget.unlimited(), 3, 3);
+        Plan deepened = formulatePlan(game, p, SimulationBudget.unlimited(), 0, 3);
+        AssertJUnit.assertNotNull(fixed);
+        AssertJUnit.assertEquals(fixed.getDecisions().toString(), deepened.getDecisions().toString());
+        AssertJUnit.assertEquals(fixed.getFinalScore().value, deepened.getFinalScore().value);
+    }
+
+    @Test
+    public void testParallelRootSearchPicksSamePlan() {
+        Game game = createBurnAndCreatureBoard();
+        Player p = game.getPlayers().get(1);
+
+        boolean parallel = SpellAbilityPicker.PARALLEL_ROOT_SEARCH;
+        Plan sequentialPlan;
+        Plan parallelPlan;
+        try {
+            SpellAbilityPicker.PARALLEL_ROOT_SEARCH = false;
+            sequentialPlan = formulatePlan(game, p, SimulationBudget.unlimited(), 0, 3);
+            SpellAbilityPicker.PARALLEL_ROOT_SEARCH = true;
+            parallelPlan = formulatePlan(game, p, SimulationBudget.unlimited(), 0, 3);
+        } finally {
+            SpellAbilityPicker.PARALLEL_ROOT_SEARCH = parallel;
+        }
+        AssertJUnit.assertNotNull(sequentialPlan);
+        AssertJUnit.assertEquals(sequentialPlan.getDecisions().toString(), parallelPlan.getDecisions().toString());
+        AssertJUnit.assertEquals(sequentialPlan.getFinalScore().value, parallelPlan.getFinalScore().value);
+    }
 }
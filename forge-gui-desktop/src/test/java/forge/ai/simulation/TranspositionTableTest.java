@@ -0,0 +1,22 @@
+package forge.ai.simulation;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.GameStateEvaluator.Score;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void testSearchedScoreIsPerStateAndDepth() {
+        TranspositionTable table = new TranspositionTable();
+        Score score = new Score(42);
+        table.putSearchedScore(100, 2, score);
+
+        AssertJUnit.assertSame(score, table.getSearchedScore(100, 2));
+        AssertJUnit.assertNull(table.getSearchedScore(100, 3));
+        // another state, that the hash and the steps left used to add up the same for
+        AssertJUnit.assertNull(table.getSearchedScore(101, 1));
+        AssertJUnit.assertNull(table.getSearchedScore(99, 3));
+    }
+}
@@ -1,10 +1,14 @@
 package forge.card;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -13,6 +17,8 @@ import forge.item.PaperCard;
 
 public class CardDbPerformanceTests extends CardDbCardMockTestCase {
 
+    private static final int N_RUNS = 100;
+
     private Set<String> fullDbCardNames = new TreeSet<>();
 
     @Override
@@ -26,52 +32,30 @@ public class CardDbPerformanceTests extends CardDbCardMockTestCase {
 
     @Test(enabled = false) // disabled to not run in battery
     public void testBenchmarkFullDbGetCardLegacyImplementation() {
-        int nRuns = 100;
-        long averageTime = 0;
-        long minTime = 10000; // 10 secs
-        long maxTime = 0;
-        for (int r = 1; r <= nRuns; r++) {
-            long start = System.currentTimeMillis();
-            for (String name : this.fullDbCardNames) {
-                PaperCard card = this.legacyCardDb.getCard(name);
-                assertNotNull(card);
-            }
-            long timeRun = System.currentTimeMillis() - start;
-            averageTime += timeRun;
-            if (timeRun < minTime)
-                minTime = timeRun;
-            if (timeRun > maxTime)
-                maxTime = timeRun;
-        }
-        System.out.println("[LEGACY] Total Time (in sec): " + ((double) averageTime) / 1000);
-        System.out.println("[LEGACY] Average Time (in sec): " + ((double) averageTime / nRuns) / 1000);
-        System.out.println("[LEGACY] Best Time (in sec): " + ((double) minTime) / 1000);
-        System.out.println("[LEGACY] Worst Time (in sec): " + ((double) maxTime) / 1000);
+        benchmarkLookups("LEGACY", name -> this.legacyCardDb.getCard(name) != null);
     }
 
     @Test(enabled = false) // disabled to not run in battery
     public void testBenchmarkFullDbGetCardNewDbImplementation() {
-        int nRuns = 100;
-        long averageTime = 0;
-        long minTime = 10000; // 10 secs
-        long maxTime = 0;
-        for (int r = 1; r <= nRuns; r++) {
-            long start = System.currentTimeMillis();
-            for (String name : this.fullDbCardNames) {
-                PaperCard card = this.cardDb.getCard(name);
-                assertNotNull(card);
-            }
-            long timeRun = System.currentTimeMillis() - start;
-            averageTime += timeRun;
-            if (timeRun < minTime)
-                minTime = timeRun;
-            if (timeRun > maxTime)
-                maxTime = timeRun;
-        }
-        System.out.println("[NEW] Total Time (in sec): " + ((double) averageTime) / 1000);
-        System.out.println("[NEW] Average Time (in sec): " + ((double) averageTime / nRuns) / 1000);
-        System.out.println("[NEW] Best Time (in sec): " + ((double) minTime) / 1000);
-        System.out.println("[NEW] Worst Time (in sec): " + ((double) maxTime) / 1000);
+        benchmarkLookups("NEW", name -> this.cardDb.getCard(name) != null);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkFullDbGetCardOtherCase() {
+        benchmarkLookups("UPPER CASE", name -> this.cardDb.getCard(name.toUpperCase(Locale.ENGLISH)) != null);
+        benchmarkLookups("LOWER CASE", name -> this.cardDb.getCard(name.toLowerCase(Locale.ENGLISH)) != null);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkFullDbContains() {
+        benchmarkLookups("CONTAINS", this.cardDb::contains);
+        benchmarkLookups("UNIQUE", name -> this.cardDb.getUniqueByName(name) != null);
+        benchmarkLookups("RULES", name -> this.cardDb.getRules(name) != null);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkFullDbGetNormalizedName() {
+        benchmarkLookups("NORMALIZED", name -> this.cardDb.getNormalizedName(name) != null);
     }
 
     @Test
@@ -89,4 +73,44 @@ public class CardDbPerformanceTests extends CardDbCardMockTestCase {
             assertNotNull(card);
         }
     }
+
+    @Test
+    public void testGetCardFullDbIgnoresCase() {
+        for (String name : this.fullDbCardNames) {
+            PaperCard card = this.cardDb.getCard(name);
+            assertEquals(this.cardDb.getCard(name.toUpperCase(Locale.ENGLISH)), card);
+            assertEquals(this.cardDb.getCard(name.toLowerCase(Locale.ENGLISH)), card);
+        }
+    }
+
+    /**
+     * Looks up every card name of the db N_RUNS times and prints the lookups per second,
+     * so the name index can be compared across changes.
+     */
+    private void benchmarkLookups(String label, Predicate<String> lookup) {
+        // warm up before measuring
+        for (String name : this.fullDbCardNames)
+            assertTrue(lookup.test(name), name);
+
+        long totalTime = 0;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = 0;
+        for (int r = 1; r <= N_RUNS; r++) {
+            long start = System.nanoTime();
+            for (String name : this.fullDbCardNames) {
+                if (!lookup.test(name))
+                    throw new AssertionError(name);
+            }
+            long timeRun = System.nanoTime() - start;
+            totalTime += timeRun;
+            minTime = Math.min(minTime, timeRun);
+            maxTime = Math.max(maxTime, timeRun);
+        }
+        double lookups = (double) this.fullDbCardNames.size() * N_RUNS;
+        System.out.println("[" + label + "] Total Time (in sec): " + totalTime / 1e9);
+        System.out.println("[" + label + "] Average Time (in sec): " + totalTime / 1e9 / N_RUNS);
+        System.out.println("[" + label + "] Best Time (in sec): " + minTime / 1e9);
+        System.out.println("[" + label + "] Worst Time (in sec): " + maxTime / 1e9);
+        System.out.println("[" + label + "] Lookups per second: " + (long) (lookups * 1e9 / totalTime));
+    }
 }
@@ -0,0 +1,56 @@
+package forge.card;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+@Test(timeOut = 1000, enabled = true)
+public class CardNameMapTest {
+
+    private static CardNameMap<Integer> createMap() {
+        CardNameMap<Integer> map = new CardNameMap<>();
+        map.put("Shivan Dragon", 1);
+        map.put("Lightning Bolt", 2);
+        return map;
+    }
+
+    public void testGetIgnoresCase() {
+        CardNameMap<Integer> map = createMap();
+        assertEquals(map.get("Shivan Dragon"), Integer.valueOf(1));
+        assertEquals(map.get("shivan DRAGON"), Integer.valueOf(1));
+        assertTrue(map.containsKey("LIGHTNING BOLT"));
+        assertEquals(map.keySet().iterator().next(), "Lightning Bolt");
+    }
+
+    public void testRemoveUpdatesLookups() {
+        CardNameMap<Integer> map = createMap();
+        assertEquals(map.remove("shivan dragon"), Integer.valueOf(1));
+        assertNull(map.get("Shivan Dragon"));
+        assertFalse(map.containsKey("shivan dragon"));
+        assertEquals(map.size(), 1);
+    }
+
+    public void testViewsAreReadOnly() {
+        // removing through a view would leave the name in the lookup indexes
+        CardNameMap<Integer> map = createMap();
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove("Shivan Dragon"));
+        assertThrows(UnsupportedOperationException.class, () -> map.values().remove(1));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().clear());
+        Iterator<String> names = map.keySet().iterator();
+        names.next();
+        assertThrows(UnsupportedOperationException.class, names::remove);
+        Map.Entry<String, Integer> entry = map.entrySet().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> entry.setValue(3));
+
+        assertEquals(map.get("Shivan Dragon"), Integer.valueOf(1));
+        assertEquals(map.get("Lightning Bolt"), Integer.valueOf(2));
+        assertEquals(map.size(), 2);
+    }
+}
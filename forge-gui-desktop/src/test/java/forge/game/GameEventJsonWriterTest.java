@@ -0,0 +1,135 @@
+package forge.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimap;
+
+import forge.ai.AITest;
+import forge.game.card.Card;
+import forge.game.card.CounterEnumType;
+import forge.game.event.*;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.zone.ZoneType;
+
+public class GameEventJsonWriterTest extends AITest {
+
+    private static String writeWinner(Game game, String winner) {
+        List<String> lines = new ArrayList<>();
+        new GameEventJsonWriter(game, lines::add).receive(new GameEventGameOutcome(3, List.of(), winner, null));
+        AssertJUnit.assertEquals(1, lines.size());
+        return lines.get(0);
+    }
+
+    @Test
+    public void testStringsAreEscaped() {
+        Game game = initAndCreateGame();
+        String suffix = ",\"lastTurn\":3,\"winner\":";
+
+        AssertJUnit.assertTrue(writeWinner(game, "say \"hi\" \\ back").endsWith(suffix + "\"say \\\"hi\\\" \\\\ back\"}"));
+        AssertJUnit.assertTrue(writeWinner(game, "a\nb\r\tc\u0001d\u001f").endsWith(suffix + "\"a\\nb\\r\\tc\\u0001d\\u001f\"}"));
+        // written as is, the stream is UTF-8
+        AssertJUnit.assertTrue(writeWinner(game, "Jötun Æther 火 🔥").endsWith(suffix + "\"Jötun Æther 火 🔥\"}"));
+        AssertJUnit.assertTrue(writeWinner(game, null).endsWith(suffix + "null}"));
+    }
+
+    @Test
+    public void testOneLinePerEvent() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        Card mountain = addCard("Mountain", p);
+        Card bear = addCard("Runeclaw Bear", opponent);
+        Card giant = addCard("Hill Giant", p);
+        Card shock = addCardToZone("Shock", p, ZoneType.Hand);
+        SpellAbility sa = shock.getSpells().get(0);
+        sa.setActivatingPlayer(p);
+        sa.getTargets().add(bear);
+
+        Multimap<GameEntity, Card> attackers = ArrayListMultimap.create();
+        attackers.put(opponent, giant);
+        Multimap<Card, Card> blocks = ArrayListMultimap.create();
+        blocks.put(giant, bear);
+        Map<GameEntity, Multimap<Card, Card>> blockers = Maps.newHashMap();
+        blockers.put(opponent, blocks);
+
+        Object[][] events = {
+            {"game_started", new GameEventGameStarted(GameType.Constructed, p, game.getPlayers())},
+            {"turn_began", new GameEventTurnBegan(p.getView(), 1)},
+            {"phase", new GameEventTurnPhase(p, PhaseType.MAIN1, "")},
+            {"zone_change", new GameEventCardChangeZone(shock, p.getZone(ZoneType.Library), p.getZone(ZoneType.Hand))},
+            {"land_played", new GameEventLandPlayed(p.getView(), mountain.getView())},
+            {"cast", new GameEventSpellAbilityCast(sa, new SpellAbilityStackInstance(sa), 0)},
+            {"resolved", new GameEventSpellResolved(sa, false)},
+            {"attackers", new GameEventAttackersDeclared(p, attackers)},
+            {"blockers", new GameEventBlockersDeclared(opponent, blockers)},
+            {"life", new GameEventPlayerLivesChanged(opponent, 20, 17)},
+            {"player_damage", new GameEventPlayerDamaged(opponent.getView(), giant.getView(), 3, true, false)},
+            {"poison", new GameEventPlayerPoisoned(opponent, p, 0, 1)},
+            {"player_counters", new GameEventPlayerCounters(opponent, CounterEnumType.ENERGY, 0, 2)},
+            {"card_damage", new GameEventCardDamaged(bear.getView(), shock.getView(), 2, GameEventCardDamaged.DamageType.Normal)},
+            {"tapped", new GameEventCardTapped(mountain, true)},
+            {"card_counters", new GameEventCardCounters(giant, CounterEnumType.P1P1, 0, 1)},
+            {"card_stats", new GameEventCardStatsChanged(giant)},
+            {"attach", new GameEventCardAttachment(giant, null, p)},
+            {"sacrificed", new GameEventCardSacrificed(giant.getView())},
+            {"mulligan", new GameEventMulligan(p.getView())},
+            {"shuffle", new GameEventShuffle(p)},
+            {"game_outcome", new GameEventGameOutcome(5, List.of(), p.getName(), null)},
+        };
+
+        List<String> lines = new ArrayList<>();
+        GameEventJsonWriter writer = new GameEventJsonWriter(game, lines::add);
+        for (Object[] event : events) {
+            writer.receive((GameEvent) event[1]);
+        }
+        // events without a mapping are left out
+        writer.receive(new GameEventTurnEnded());
+
+        AssertJUnit.assertEquals(events.length, lines.size());
+        for (int i = 0; i < events.length; i++) {
+            String line = lines.get(i);
+            String start = "{\"v\":" + GameEventJsonWriter.FORMAT_VERSION + ",\"game\":" + game.getId()
+                    + ",\"seq\":" + (i + 1) + ",\"type\":\"" + events[i][0] + "\"";
+            AssertJUnit.assertTrue(line, line.startsWith(start));
+            AssertJUnit.assertTrue(line, line.endsWith("}"));
+            AssertJUnit.assertFalse(line, line.contains("\n"));
+            assertBalanced(line);
+        }
+        AssertJUnit.assertTrue(lines.get(5), lines.get(5).contains(",\"card\":{\"id\":" + shock.getId() + ",\"name\":\"Shock\"}"));
+        AssertJUnit.assertTrue(lines.get(7), lines.get(7).contains("\"defender\":{\"player\":" + opponent.getId() + "}"));
+    }
+
+    private static void assertBalanced(String line) {
+        int depth = 0;
+        boolean inString = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (inString) {
+                if (ch == '\\') {
+                    i++;
+                } else if (ch == '"') {
+                    inString = false;
+                }
+            } else if (ch == '"') {
+                inString = true;
+            } else if (ch == '{' || ch == '[') {
+                depth++;
+            } else if (ch == '}' || ch == ']') {
+                depth--;
+                AssertJUnit.assertTrue(line, depth >= 0);
+            }
+        }
+        AssertJUnit.assertFalse(line, inString);
+        AssertJUnit.assertEquals(line, 0, depth);
+    }
+}
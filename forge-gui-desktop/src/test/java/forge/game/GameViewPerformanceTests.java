@@ -0,0 +1,42 @@
+package forge.game;
+
+import org.testng.annotations.Test;
+
+import forge.ai.AITest;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class GameViewPerformanceTests extends AITest {
+
+    private static final int N_GAMES = 20;
+    private static final int N_TURNS = 6;
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkHeadlessGames() {
+        // warm up before measuring either mode
+        playGames(false, 3);
+
+        long tracked = playGames(false, N_GAMES);
+        long headless = playGames(true, N_GAMES);
+        System.out.println("[VIEWS] Games per second with views: " + N_GAMES * 1000.0 / tracked);
+        System.out.println("[VIEWS] Games per second headless: " + N_GAMES * 1000.0 / headless);
+    }
+
+    private long playGames(boolean headless, int count) {
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            Game game = initAndCreateGame();
+            game.setHeadless(headless);
+            for (Player p : game.getPlayers()) {
+                addCards("Grizzly Bears", 10, p);
+                for (int j = 0; j < 20; j++) {
+                    addCardToZone("Mountain", p, ZoneType.Library);
+                }
+            }
+            for (int turn = 0; turn < N_TURNS && !game.isGameOver(); turn++) {
+                playUntilNextTurn(game);
+            }
+        }
+        return System.currentTimeMillis() - start;
+    }
+}
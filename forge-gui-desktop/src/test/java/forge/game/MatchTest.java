@@ -0,0 +1,41 @@
+package forge.game;
+
+import java.util.Collections;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.AITest;
+import forge.util.SeededRandom;
+
+public class MatchTest extends AITest {
+
+    private static Match createMatch(long seed) {
+        GameRules rules = new GameRules(GameType.Constructed);
+        rules.setSeed(seed);
+        return new Match(rules, Collections.emptyList(), "Test");
+    }
+
+    @Test
+    public void testGamesOfSeededMatchAreReproducible() {
+        initAndCreateGame();
+        Match match = createMatch(42);
+        Match again = createMatch(42);
+        long first = match.createGame().getSeed();
+        long second = match.createGame().getSeed();
+        AssertJUnit.assertTrue(first != second);
+        AssertJUnit.assertEquals(first, again.createGame().getSeed());
+        AssertJUnit.assertEquals(second, again.createGame().getSeed());
+    }
+
+    @Test
+    public void testGameGivenRandomDoesNotDrawSeed() {
+        initAndCreateGame();
+        // like the copies the AI simulates with
+        Match match = createMatch(42);
+        Game copy = match.createGame();
+        copy.setRandom(new SeededRandom(7));
+        AssertJUnit.assertEquals(7, copy.getSeed());
+        AssertJUnit.assertEquals(createMatch(42).createGame().getSeed(), match.createGame().getSeed());
+    }
+}
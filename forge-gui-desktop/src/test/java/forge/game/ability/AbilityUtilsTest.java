@@ -0,0 +1,33 @@
+package forge.game.ability;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.AITest;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+
+public class AbilityUtilsTest extends AITest {
+
+    @Test
+    public void testCountNamedCardnameUsesEachCardsName() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+        addCard("Grizzly Bears", p);
+        Card giant = addCard("Hill Giant", p);
+
+        // both evaluate the same cached expression
+        AssertJUnit.assertEquals(2, countNamedCardname(bear, p));
+        AssertJUnit.assertEquals(1, countNamedCardname(giant, p));
+        AssertJUnit.assertEquals(2, countNamedCardname(bear, p));
+    }
+
+    private static int countNamedCardname(Card c, Player p) {
+        SpellAbility sa = c.getFirstSpellAbility();
+        sa.setActivatingPlayer(p);
+        return AbilityUtils.xCount(c, "Count$NamedYouCtrl.CARDNAME", sa);
+    }
+}
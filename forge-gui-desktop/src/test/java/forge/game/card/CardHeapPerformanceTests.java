@@ -0,0 +1,49 @@
+package forge.game.card;
+
+import static org.testng.Assert.assertNotNull;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.testng.annotations.Test;
+
+import forge.ai.AITest;
+import forge.game.Game;
+import forge.game.player.Player;
+
+public class CardHeapPerformanceTests extends AITest {
+
+    private static final int N_CARDS = 2000;
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkBytesPerCardAndLKICopy() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(0);
+
+        long cardBytes = retainedBytes(i -> createCard("Grizzly Bears", p));
+        System.out.println("[HEAP] Bytes per Card: " + cardBytes / N_CARDS);
+
+        List<Card> board = addCards("Grizzly Bears", N_CARDS, p);
+        long lkiBytes = retainedBytes(i -> CardCopyService.getLKICopy(board.get(i)));
+        System.out.println("[HEAP] Bytes per LKI copy: " + lkiBytes / N_CARDS);
+    }
+
+    private static long retainedBytes(IntFunction<Object> allocate) {
+        Object[] retained = new Object[N_CARDS];
+        long before = usedMemory();
+        for (int i = 0; i < N_CARDS; i++) {
+            retained[i] = allocate.apply(i);
+        }
+        long after = usedMemory();
+        assertNotNull(retained[N_CARDS - 1]);
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,61 @@
+package forge.view;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.AITest;
+import forge.ai.LobbyPlayerAi;
+import forge.deck.Deck;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.player.RegisteredPlayer;
+
+public class SimulateMatchTest extends AITest {
+    private static final Pattern GAME_SEED = Pattern.compile("Game (\\d+) seed: (-?\\d+)");
+
+    private static List<String> simulateGameSeeds(int nGames, int nThreads) {
+        // empty libraries, so every game is over with the first draw
+        List<RegisteredPlayer> players = Lists.newArrayList();
+        players.add(new RegisteredPlayer(new Deck()).setPlayer(new LobbyPlayerAi("p1", null)));
+        players.add(new RegisteredPlayer(new Deck()).setPlayer(new LobbyPlayerAi("p2", null)));
+        GameRules rules = new GameRules(GameType.Constructed);
+        rules.setSeed(42L);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        try {
+            SimulateMatch.simulateGames(rules, players, nGames, 0, nThreads, false, null, -1, null);
+        } finally {
+            System.setOut(stdout);
+        }
+
+        List<String> seeds = new ArrayList<>();
+        Matcher m = GAME_SEED.matcher(buffer.toString(StandardCharsets.UTF_8));
+        while (m.find()) {
+            seeds.add(m.group(1) + ":" + m.group(2));
+        }
+        return seeds;
+    }
+
+    @Test
+    public void testParallelGamesHaveSameSeedsAsSequential() {
+        initAndCreateGame();
+
+        List<String> sequential = simulateGameSeeds(4, 1);
+        AssertJUnit.assertEquals(4, sequential.size());
+        AssertJUnit.assertEquals(4, new HashSet<>(sequential).size());
+        AssertJUnit.assertEquals(sequential, simulateGameSeeds(4, 3));
+    }
+}
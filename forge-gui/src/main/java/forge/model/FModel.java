@@ -284,6 +284,14 @@ public final class FModel {
     }
 
     public static void initialize(final IProgressBar progressBar, Function<ForgePreferences, Void> adjustPrefs, boolean isSimTest) {
+        initialize(progressBar, adjustPrefs, isSimTest, false);
+    }
+
+    /**
+     * @param loadCardsLazily whether to only read the scripts of the cards decks use and of the cards those refer to,
+     * effects picking from all cards then only see these
+     */
+    public static void initialize(final IProgressBar progressBar, Function<ForgePreferences, Void> adjustPrefs, boolean isSimTest, boolean loadCardsLazily) {
         ImageKeys.initializeDirs(
             ForgeConstants.CACHE_CARD_PICS_DIR, ForgeConstants.CACHE_CARD_PICS_SUBDIR,
             ForgeConstants.CACHE_TOKEN_PICS_DIR, ForgeConstants.CACHE_ICON_PICS_DIR,
@@ -318,8 +326,11 @@ public final class FModel {
         }
 
         loadDynamicGamedata();
-        reader = new CardStorageReader(ForgeConstants.CARD_DATA_DIR, progressBarBridge, false);
-        tokenReader = new CardStorageReader(ForgeConstants.TOKEN_DATA_DIR, progressBarBridge, false);
+        // reading the snapshot of all scripts is much faster than opening every script file again
+        reader = loadCardsLazily
+                ? new CardStorageReader(ForgeConstants.CARD_DATA_DIR, progressBarBridge, true)
+                : new CardStorageReader(ForgeConstants.CARD_DATA_DIR, progressBarBridge, false, new File(ForgeConstants.CARD_SNAPSHOT_FILE));
+        tokenReader = new CardStorageReader(ForgeConstants.TOKEN_DATA_DIR, progressBarBridge, false, new File(ForgeConstants.TOKEN_SNAPSHOT_FILE));
         try {
            customReader  = new CardStorageReader(ForgeConstants.USER_CUSTOM_CARDS_DIR, progressBarBridge, false);
         } catch (Exception e) {
@@ -369,7 +380,8 @@ public final class FModel {
         AiProfileUtil.loadAllProfiles(ForgeConstants.AI_PROFILE_DIR);
         AiProfileUtil.setAiSideboardingMode(AiProfileUtil.AISideboardingMode.normalizedValueOf(getPreferences().getPref(FPref.MATCH_AI_SIDEBOARDING_MODE)));
         
-        if(getPreferences().getPrefBoolean(FPref.DECKGEN_CARDBASED)) {
+        // the deck generation matrices need the whole card pool
+        if (!loadCardsLazily && getPreferences().getPrefBoolean(FPref.DECKGEN_CARDBASED)) {
             boolean commanderDeckGenMatrixLoaded=CardRelationMatrixGenerator.initialize();
             deckGenMatrixLoaded=CardArchetypeLDAGenerator.initialize();
             if(!commanderDeckGenMatrixLoaded){
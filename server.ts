@@ -44,7 +44,7 @@ function startMatch(ws: WebSocket, payload: any) {
   const diagLevel = process.env.DIAG_LEVEL || '1';
   let commandToRun: string;
   let commandArgs: string[];
-  const baseJavaArgs = ["-Xmx1024m", `-Djava.awt.headless=true`, `-Dsentry.enabled=false`, `-Dforge.home=${APP_DIR}`, "-jar", jarPath, "sim", "-d", deck1.filename, deck2.filename, "-a", deck1.aiProfile, deck2.aiProfile, "-n", "1"];
+  const baseJavaArgs = ["-Xmx1024m", `-Djava.awt.headless=true`, `-Dsentry.enabled=false`, `-Dforge.home=${APP_DIR}`, "-jar", jarPath, "sim", "-d", deck1.filename, deck2.filename, "-a", deck1.aiProfile, deck2.aiProfile, "-n", "1", "-s"];
 
   switch (diagLevel) {
     case '3': commandToRun = "strace"; commandArgs = ["-f", "java", "-verbose:class", ...baseJavaArgs]; break;